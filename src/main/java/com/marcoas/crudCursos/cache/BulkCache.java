@@ -0,0 +1,43 @@
+package com.marcoas.crudCursos.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public interface BulkCache {
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    void putAll(Map<?, ?> values);
+
+    static BulkCache of(Cache cache) {
+        if (cache instanceof BulkCache bulk) {
+            return bulk;
+        }
+        return new BulkCache() {
+            @Override
+            public Map<Object, Object> getAll(Collection<?> keys) {
+                Map<Object, Object> values = new LinkedHashMap<>();
+                for (Object key : keys) {
+                    Cache.ValueWrapper wrapper;
+                    try {
+                        wrapper = cache.get(key);
+                    } catch (SerializationException e) {
+                        continue;
+                    }
+                    if (wrapper != null && wrapper.get() != null) {
+                        values.put(key, wrapper.get());
+                    }
+                }
+                return values;
+            }
+
+            @Override
+            public void putAll(Map<?, ?> values) {
+                values.forEach(cache::put);
+            }
+        };
+    }
+}
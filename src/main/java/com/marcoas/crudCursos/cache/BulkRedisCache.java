@@ -0,0 +1,77 @@
+package com.marcoas.crudCursos.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BulkRedisCache extends RedisCache implements BulkCache {
+    private final RedisConnectionFactory connectionFactory;
+
+    protected BulkRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration, RedisConnectionFactory connectionFactory) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return values;
+        }
+        List<Object> ordered = new ArrayList<>(keys);
+        byte[][] cacheKeys = new byte[ordered.size()][];
+        for (int i = 0; i < cacheKeys.length; i++) {
+            cacheKeys[i] = serializeCacheKey(createCacheKey(ordered.get(i)));
+        }
+        List<byte[]> cached;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            cached = connection.stringCommands().mGet(cacheKeys);
+        }
+        for (int i = 0; cached != null && i < cached.size(); i++) {
+            if (cached.get(i) != null) {
+                Object value;
+                try {
+                    value = fromStoreValue(deserializeCacheValue(cached.get(i)));
+                } catch (SerializationException e) {
+                    continue;
+                }
+                if (value != null) {
+                    values.put(ordered.get(i), value);
+                }
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                values.forEach((key, value) -> {
+                    Duration ttl = getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+                    Expiration expiration = ttl != null && !ttl.isZero() && !ttl.isNegative() ? Expiration.from(ttl) : Expiration.persistent();
+                    connection.stringCommands().set(serializeCacheKey(createCacheKey(key)), serializeCacheValue(toStoreValue(value)),
+                            expiration, RedisStringCommands.SetOption.upsert());
+                });
+            } finally {
+                connection.closePipeline();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.marcoas.crudCursos.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.Map;
+
+public class BulkRedisCacheManager extends RedisCacheManager {
+    private final RedisConnectionFactory connectionFactory;
+
+    public BulkRedisCacheManager(RedisConnectionFactory connectionFactory, RedisCacheConfiguration defaultCacheConfiguration,
+                                 Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+        super(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), defaultCacheConfiguration, initialCacheConfigurations);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        return new BulkRedisCache(name, getCacheWriter(), cacheConfiguration != null ? cacheConfiguration : getDefaultCacheConfiguration(), connectionFactory);
+    }
+}
@@ -0,0 +1,8 @@
+package com.marcoas.crudCursos.cache;
+
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.marcoas.crudCursos.cache;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationBus {
+    void publish(CacheInvalidation invalidation);
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
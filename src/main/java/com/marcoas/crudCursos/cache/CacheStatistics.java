@@ -0,0 +1,108 @@
+package com.marcoas.crudCursos.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStatistics {
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder coalescedTimeouts = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void remoteMiss() {
+        remoteMisses.increment();
+    }
+
+    void load() {
+        loads.increment();
+    }
+
+    void load(int count) {
+        loads.add(count);
+    }
+
+    void coalesced() {
+        coalesced.increment();
+    }
+
+    void coalescedTimeout() {
+        coalescedTimeouts.increment();
+    }
+
+    void staleHit() {
+        staleHits.increment();
+    }
+
+    void put() {
+        puts.increment();
+    }
+
+    void put(int count) {
+        puts.add(count);
+    }
+
+    void eviction() {
+        evictions.increment();
+    }
+
+    public long getHits() {
+        return localHits.sum() + remoteHits.sum();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getCoalescedTimeouts() {
+        return coalescedTimeouts.sum();
+    }
+
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    public long getPuts() {
+        return puts.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,18 @@
+package com.marcoas.crudCursos.cache;
+
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+
+import java.io.Serializable;
+
+public record CachedCourse(long generation, CourseViewDTO course) implements Serializable {
+    public static final long NEVER_CURRENT = -1;
+
+    public boolean isCurrent(CategoryGenerations generations) {
+        return generation != NEVER_CURRENT && course.category() != null
+                && generation == generations.current(course.category().id());
+    }
+
+    public boolean isCurrent(long currentGeneration) {
+        return generation != NEVER_CURRENT && generation == currentGeneration;
+    }
+}
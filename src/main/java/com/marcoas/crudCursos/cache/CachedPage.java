@@ -0,0 +1,6 @@
+package com.marcoas.crudCursos.cache;
+
+import java.io.Serializable;
+
+public record CachedPage(long[] ids, long total) implements Serializable {
+}
@@ -0,0 +1,13 @@
+package com.marcoas.crudCursos.cache;
+
+import java.util.Collection;
+
+public interface CategoryGenerations {
+    long current(Long categoryId);
+
+    void bump(Long categoryId);
+
+    default void bumpAll(Collection<Long> categoryIds) {
+        categoryIds.forEach(this::bump);
+    }
+}
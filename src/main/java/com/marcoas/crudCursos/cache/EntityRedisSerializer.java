@@ -0,0 +1,275 @@
+package com.marcoas.crudCursos.cache;
+
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class EntityRedisSerializer implements RedisSerializer<Object> {
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte VERSION = 1;
+    static final byte FLAG_COMPRESSED = 1;
+    static final byte TYPE_CATEGORY = 1;
+    static final byte TYPE_COURSE = 2;
+    static final byte TYPE_CACHED_COURSE = 3;
+    static final byte TYPE_CACHED_PAGE = 4;
+    private static final int HEADER_SIZE = 4;
+
+    private final JdkSerializationRedisSerializer fallback;
+    private final int compressionThreshold;
+
+    public EntityRedisSerializer(int compressionThreshold) {
+        this(compressionThreshold, EntityRedisSerializer.class.getClassLoader());
+    }
+
+    public EntityRedisSerializer(int compressionThreshold, ClassLoader classLoader) {
+        this.compressionThreshold = compressionThreshold;
+        this.fallback = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte type = typeOf(value);
+        if (type == 0) {
+            return fallback.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (type == TYPE_CATEGORY) {
+                writeCategory(out, (CategoryViewDTO) value);
+            } else if (type == TYPE_COURSE) {
+                writeCourse(out, (CourseViewDTO) value);
+            } else if (type == TYPE_CACHED_COURSE) {
+                writeCachedCourse(out, (CachedCourse) value);
+            } else {
+                writeCachedPage(out, (CachedPage) value);
+            }
+            out.flush();
+            byte[] payload = bytes.toByteArray();
+            byte flags = 0;
+            if (payload.length >= compressionThreshold) {
+                byte[] compressed = compress(payload);
+                if (compressed.length < payload.length) {
+                    payload = compressed;
+                    flags |= FLAG_COMPRESSED;
+                }
+            }
+            byte[] result = new byte[HEADER_SIZE + payload.length];
+            result[0] = MAGIC;
+            result[1] = VERSION;
+            result[2] = flags;
+            result[3] = type;
+            System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize cache value.", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] > VERSION) {
+            throw new SerializationException("Unsupported cache value format version " + (bytes.length > 1 ? bytes[1] : -1) + ".");
+        }
+        try {
+            byte[] payload = (bytes[2] & FLAG_COMPRESSED) != 0
+                    ? decompress(bytes, HEADER_SIZE)
+                    : Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            return switch (bytes[3]) {
+                case TYPE_CATEGORY -> readCategory(in);
+                case TYPE_COURSE -> readCourse(in);
+                case TYPE_CACHED_COURSE -> readCachedCourse(in);
+                case TYPE_CACHED_PAGE -> readCachedPage(in);
+                default -> throw new SerializationException("Unknown cache value type " + bytes[3] + ".");
+            };
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not deserialize cache value.", e);
+        }
+    }
+
+    private static byte typeOf(Object value) {
+        if (value instanceof CategoryViewDTO) {
+            return TYPE_CATEGORY;
+        }
+        if (value instanceof CourseViewDTO) {
+            return TYPE_COURSE;
+        }
+        if (value instanceof CachedCourse cached && cached.course() != null) {
+            return TYPE_CACHED_COURSE;
+        }
+        if (value instanceof CachedPage page && page.ids() != null) {
+            return TYPE_CACHED_PAGE;
+        }
+        return 0;
+    }
+
+    private static void writeCategory(DataOutputStream out, CategoryViewDTO category) throws IOException {
+        writeLong(out, category.id());
+        writeString(out, category.name());
+    }
+
+    private static CategoryViewDTO readCategory(DataInputStream in) throws IOException {
+        return new CategoryViewDTO(readLong(in), readString(in));
+    }
+
+    private static void writeCourse(DataOutputStream out, CourseViewDTO course) throws IOException {
+        writeLong(out, course.id());
+        writeString(out, course.name());
+        out.writeBoolean(course.category() != null);
+        if (course.category() != null) {
+            writeCategory(out, course.category());
+        }
+    }
+
+    private static CourseViewDTO readCourse(DataInputStream in) throws IOException {
+        Long id = readLong(in);
+        String name = readString(in);
+        CategoryViewDTO category = in.readBoolean() ? readCategory(in) : null;
+        return new CourseViewDTO(id, name, category);
+    }
+
+    private static void writeCachedCourse(DataOutputStream out, CachedCourse cached) throws IOException {
+        writeVarLong(out, cached.generation());
+        writeCourse(out, cached.course());
+    }
+
+    private static CachedCourse readCachedCourse(DataInputStream in) throws IOException {
+        long generation = readVarLong(in);
+        return new CachedCourse(generation, readCourse(in));
+    }
+
+    private static void writeCachedPage(DataOutputStream out, CachedPage page) throws IOException {
+        writeVarLong(out, page.total());
+        writeVarLong(out, page.ids().length);
+        long previous = 0;
+        for (long id : page.ids()) {
+            writeVarLong(out, id - previous);
+            previous = id;
+        }
+    }
+
+    private static CachedPage readCachedPage(DataInputStream in) throws IOException {
+        long total = readVarLong(in);
+        long[] ids = new long[(int) readVarLong(in)];
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            previous += readVarLong(in);
+            ids[i] = previous;
+        }
+        return new CachedPage(ids, total);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(1);
+        writeVarLong(out, value);
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readByte() == 0 ? null : readVarLong(in);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, utf8.length + 1L);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length - 1];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed variable-length number.");
+    }
+
+    private static byte[] compress(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length);
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(payload.length);
+            byte[] buffer = new byte[Math.max(64, payload.length)];
+            while (!deflater.finished()) {
+                data.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not compress cache value.", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] bytes, int offset) throws IOException, DataFormatException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, offset, bytes.length - offset));
+        byte[] payload = new byte[in.readInt()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset + Integer.BYTES, bytes.length - offset - Integer.BYTES);
+            int read = 0;
+            while (read < payload.length && !inflater.finished()) {
+                int count = inflater.inflate(payload, read, payload.length - read);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed cache value.");
+                }
+                read += count;
+            }
+            return payload;
+        } finally {
+            inflater.end();
+        }
+    }
+}
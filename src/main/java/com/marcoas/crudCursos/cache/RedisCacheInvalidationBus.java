@@ -0,0 +1,45 @@
+package com.marcoas.crudCursos.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+    public static final String CHANNEL = "crudcursos:cache-invalidation";
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cache invalidation.", e);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish invalidation of cache '{}': {}", invalidation.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidation.class));
+            } catch (IOException e) {
+                log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+}
@@ -0,0 +1,80 @@
+package com.marcoas.crudCursos.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class RedisCategoryGenerations implements CategoryGenerations {
+    public static final String KEY = "crudcursos:category-generations";
+    static final String CACHE_NAME = "category-generations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<Long, Long> local;
+
+    public RedisCategoryGenerations(StringRedisTemplate redisTemplate, CacheInvalidationBus invalidationBus, long localMaximumSize, Duration localTimeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .build();
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public long current(Long categoryId) {
+        Long cached = local.getIfPresent(categoryId);
+        if (cached != null) {
+            return cached;
+        }
+        Object stored = redisTemplate.opsForHash().get(KEY, categoryId.toString());
+        long generation = stored != null ? Long.parseLong(stored.toString()) : 0L;
+        return local.asMap().merge(categoryId, generation, Math::max);
+    }
+
+    @Override
+    public void bump(Long categoryId) {
+        Long generation = redisTemplate.opsForHash().increment(KEY, categoryId.toString(), 1);
+        local.put(categoryId, generation);
+        invalidationBus.publish(new CacheInvalidation(nodeId, CACHE_NAME, categoryId.toString()));
+    }
+
+    @Override
+    public void bumpAll(Collection<Long> categoryIds) {
+        List<Long> ids = List.copyOf(categoryIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        byte[] key = KEY.getBytes(StandardCharsets.UTF_8);
+        List<Object> generations = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : ids) {
+                connection.hashCommands().hIncrBy(key, id.toString().getBytes(StandardCharsets.UTF_8), 1);
+            }
+            return null;
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            local.put(ids.get(i), ((Number) generations.get(i)).longValue());
+            invalidationBus.publish(new CacheInvalidation(nodeId, CACHE_NAME, ids.get(i).toString()));
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!CACHE_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(Long.valueOf(invalidation.key()));
+        }
+    }
+}
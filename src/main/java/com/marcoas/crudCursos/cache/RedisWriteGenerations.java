@@ -0,0 +1,56 @@
+package com.marcoas.crudCursos.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public class RedisWriteGenerations implements WriteGenerations {
+    public static final String KEY = "crudcursos:write-generations";
+    static final String CACHE_NAME = "write-generations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, Long> local;
+
+    public RedisWriteGenerations(StringRedisTemplate redisTemplate, CacheInvalidationBus invalidationBus, Duration localTimeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(localTimeToLive)
+                .build();
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public long current(String entity) {
+        Long cached = local.getIfPresent(entity);
+        if (cached != null) {
+            return cached;
+        }
+        Object stored = redisTemplate.opsForHash().get(KEY, entity);
+        long generation = stored != null ? Long.parseLong(stored.toString()) : 0L;
+        return local.asMap().merge(entity, generation, Math::max);
+    }
+
+    @Override
+    public void bump(String entity) {
+        Long generation = redisTemplate.opsForHash().increment(KEY, entity, 1);
+        local.put(entity, generation);
+        invalidationBus.publish(new CacheInvalidation(nodeId, CACHE_NAME, entity));
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!CACHE_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(invalidation.key());
+        }
+    }
+}
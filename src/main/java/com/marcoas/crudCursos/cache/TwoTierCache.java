@@ -0,0 +1,272 @@
+package com.marcoas.crudCursos.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+public class TwoTierCache implements Cache, BulkCache {
+    private static final ValueWrapper UNREADABLE = new SimpleValueWrapper(null);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+    private final Duration loadTimeout;
+    private final CacheStatistics statistics = new CacheStatistics();
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private volatile Predicate<Object> entryValidator = value -> true;
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local, Cache remote, CacheInvalidationBus invalidationBus,
+                        String nodeId, Duration loadTimeout) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = nodeId;
+        this.loadTimeout = loadTimeout;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    void setEntryValidator(Predicate<Object> entryValidator) {
+        this.entryValidator = entryValidator;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null && isValid(wrapper)) {
+            statistics.localHit();
+            return wrapper;
+        }
+        boolean stale = wrapper != null;
+        if (stale) {
+            local.invalidate(localKey);
+        }
+        statistics.localMiss();
+        wrapper = remoteGet(key);
+        if (wrapper != null && !isValid(wrapper)) {
+            stale = true;
+            wrapper = null;
+        }
+        if (stale) {
+            statistics.staleHit();
+        }
+        if (wrapper == null) {
+            statistics.remoteMiss();
+            return null;
+        }
+        statistics.remoteHit();
+        local.put(localKey, wrapper);
+        return wrapper;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        List<Object> missing = new ArrayList<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = local.getIfPresent(localKey(key));
+            if (wrapper != null && wrapper.get() != null && isValid(wrapper)) {
+                statistics.localHit();
+                values.put(key, wrapper.get());
+            } else {
+                if (wrapper != null) {
+                    local.invalidate(localKey(key));
+                }
+                statistics.localMiss();
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return values;
+        }
+        Map<Object, Object> remoteValues = BulkCache.of(remote).getAll(missing);
+        for (Object key : missing) {
+            Object value = remoteValues.get(key);
+            if (value == null) {
+                statistics.remoteMiss();
+            } else if (!entryValidator.test(value)) {
+                statistics.staleHit();
+                statistics.remoteMiss();
+            } else {
+                statistics.remoteHit();
+                local.put(localKey(key), new SimpleValueWrapper(value));
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> values) {
+        statistics.load(values.size());
+        statistics.put(values.size());
+        BulkCache.of(remote).putAll(values);
+        values.forEach((key, value) -> local.put(localKey(key), new SimpleValueWrapper(value)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = localKey(key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            statistics.coalesced();
+            try {
+                return (T) inFlight.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            } catch (TimeoutException e) {
+                statistics.coalescedTimeout();
+                return load(key, valueLoader);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+        try {
+            wrapper = local.getIfPresent(localKey);
+            T value = wrapper != null && isValid(wrapper) ? (T) wrapper.get() : load(key, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e instanceof ValueRetrievalException && e.getCause() != null ? e.getCause() : e);
+            throw e;
+        } finally {
+            loading.remove(localKey, load);
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        statistics.load();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        statistics.put();
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        statistics.put();
+        loading.remove(localKey(key));
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        publish(localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            statistics.put();
+        }
+        local.invalidate(localKey(key));
+        publish(localKey(key));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        statistics.eviction();
+        loading.remove(localKey(key));
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        publish(localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        statistics.eviction();
+        loading.clear();
+        remote.clear();
+        local.invalidateAll();
+        publish(null);
+    }
+
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private ValueWrapper remoteGet(Object key) {
+        try {
+            return remote.get(key);
+        } catch (SerializationException e) {
+            return UNREADABLE;
+        }
+    }
+
+    private boolean isValid(ValueWrapper wrapper) {
+        if (wrapper == UNREADABLE) {
+            return false;
+        }
+        return wrapper.get() == null || entryValidator.test(wrapper.get());
+    }
+
+    private void publish(String key) {
+        invalidationBus.publish(new CacheInvalidation(nodeId, name, key));
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
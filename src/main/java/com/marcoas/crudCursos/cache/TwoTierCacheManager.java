@@ -0,0 +1,91 @@
+package com.marcoas.crudCursos.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+public class TwoTierCacheManager implements CacheManager {
+    private final CacheManager remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final long localMaximumSize;
+    private final Duration localTimeToLive;
+    private final Duration loadTimeout;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Predicate<Object>> entryValidators = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Duration> localTimeToLives = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote, CacheInvalidationBus invalidationBus, long localMaximumSize, Duration localTimeToLive, Duration loadTimeout) {
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.localMaximumSize = localMaximumSize;
+        this.localTimeToLive = localTimeToLive;
+        this.loadTimeout = loadTimeout;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setLocalTimeToLive(String name, Duration timeToLive) {
+        localTimeToLives.put(name, timeToLive);
+    }
+
+    public void setEntryValidator(String name, Predicate<Object> entryValidator) {
+        entryValidators.put(name, entryValidator);
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            cache.setEntryValidator(entryValidator);
+        }
+    }
+
+    public CacheStatistics getStatistics(String name) {
+        TwoTierCache cache = caches.get(name);
+        return cache != null ? cache.getStatistics() : null;
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLives.getOrDefault(name, localTimeToLive))
+                .build();
+        TwoTierCache cache = new TwoTierCache(name, local, remoteCache, invalidationBus, nodeId, loadTimeout);
+        Predicate<Object> entryValidator = entryValidators.get(name);
+        if (entryValidator != null) {
+            cache.setEntryValidator(entryValidator);
+        }
+        return cache;
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+}
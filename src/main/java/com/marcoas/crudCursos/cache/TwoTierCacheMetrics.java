@@ -0,0 +1,73 @@
+package com.marcoas.crudCursos.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.function.ToLongFunction;
+
+public class TwoTierCacheMetrics extends CacheMeterBinder<TwoTierCache> {
+
+    public TwoTierCacheMetrics(TwoTierCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoTierCache cache = getCache();
+        return cache != null ? cache.getLocalSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        return statistic(CacheStatistics::getHits);
+    }
+
+    @Override
+    protected Long missCount() {
+        return statistic(CacheStatistics::getRemoteMisses);
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return statistic(CacheStatistics::getEvictions);
+    }
+
+    @Override
+    protected long putCount() {
+        return statistic(CacheStatistics::getPuts);
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        tierCounter(registry, "local", "hit", CacheStatistics::getLocalHits);
+        tierCounter(registry, "local", "miss", CacheStatistics::getLocalMisses);
+        tierCounter(registry, "remote", "hit", CacheStatistics::getRemoteHits);
+        tierCounter(registry, "remote", "miss", CacheStatistics::getRemoteMisses);
+        counter(registry, "cache.loads", "Values computed by the loader after missing both tiers", CacheStatistics::getLoads);
+        counter(registry, "cache.stale", "Entries rejected by the entry validator", CacheStatistics::getStaleHits);
+        counter(registry, "cache.coalesced", "Concurrent misses that waited for a single load", CacheStatistics::getCoalesced);
+        counter(registry, "cache.coalesced.timeouts", "Coalesced waits that gave up and loaded on their own", CacheStatistics::getCoalescedTimeouts);
+    }
+
+    private void tierCounter(MeterRegistry registry, String tier, String result, ToLongFunction<CacheStatistics> value) {
+        FunctionCounter.builder("cache.tier.gets", getCache(), cache -> value.applyAsLong(cache.getStatistics()))
+                .tags(Tags.concat(getTagsWithCacheName(), "tier", tier, "result", result))
+                .description("Cache lookups per tier")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, ToLongFunction<CacheStatistics> value) {
+        FunctionCounter.builder(name, getCache(), cache -> value.applyAsLong(cache.getStatistics()))
+                .tags(getTagsWithCacheName())
+                .description(description)
+                .register(registry);
+    }
+
+    private long statistic(ToLongFunction<CacheStatistics> value) {
+        TwoTierCache cache = getCache();
+        return cache != null ? value.applyAsLong(cache.getStatistics()) : 0;
+    }
+}
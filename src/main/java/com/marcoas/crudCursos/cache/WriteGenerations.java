@@ -0,0 +1,10 @@
+package com.marcoas.crudCursos.cache;
+
+public interface WriteGenerations {
+    String COURSES = "course";
+    String CATEGORIES = "category";
+
+    long current(String entity);
+
+    void bump(String entity);
+}
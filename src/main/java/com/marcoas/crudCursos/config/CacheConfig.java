@@ -0,0 +1,136 @@
+package com.marcoas.crudCursos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcoas.crudCursos.cache.BulkRedisCacheManager;
+import com.marcoas.crudCursos.cache.CacheInvalidationBus;
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.EntityRedisSerializer;
+import com.marcoas.crudCursos.cache.RedisCacheInvalidationBus;
+import com.marcoas.crudCursos.cache.RedisCategoryGenerations;
+import com.marcoas.crudCursos.cache.RedisWriteGenerations;
+import com.marcoas.crudCursos.cache.TwoTierCache;
+import com.marcoas.crudCursos.cache.TwoTierCacheManager;
+import com.marcoas.crudCursos.cache.TwoTierCacheMetrics;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.cache.WriteGenerations;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(@Value("${app.cache.serializer.format:binary}") String serializer,
+                                                      @Value("${app.cache.serializer.compression-threshold:512}") int compressionThreshold) {
+        return valueSerializer(serializer, compressionThreshold, getClass().getClassLoader());
+    }
+
+    public static RedisSerializer<Object> valueSerializer(String serializer, int compressionThreshold, ClassLoader classLoader) {
+        return "jdk".equalsIgnoreCase(serializer)
+                ? new JdkSerializationRedisSerializer(classLoader)
+                : new EntityRedisSerializer(compressionThreshold, classLoader);
+    }
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties, RedisSerializer<Object> cacheValueSerializer) {
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer));
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+        if (redis.getTimeToLive() != null) {
+            config = config.entryTtl(redis.getTimeToLive());
+        }
+        return config;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer cacheInvalidationListenerContainer, ObjectMapper objectMapper) {
+        return new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer, objectMapper);
+    }
+
+    @Bean
+    public CategoryGenerations categoryGenerations(StringRedisTemplate redisTemplate, CacheInvalidationBus cacheInvalidationBus,
+                                                   @Value("${app.cache.local.maximum-size:10000}") long localMaximumSize,
+                                                   @Value("${app.cache.local.time-to-live:60s}") Duration localTimeToLive) {
+        return new RedisCategoryGenerations(redisTemplate, cacheInvalidationBus, localMaximumSize, localTimeToLive);
+    }
+
+    @Bean
+    public WriteGenerations writeGenerations(StringRedisTemplate redisTemplate, CacheInvalidationBus cacheInvalidationBus,
+                                             @Value("${app.cache.local.time-to-live:60s}") Duration localTimeToLive) {
+        return new RedisWriteGenerations(redisTemplate, cacheInvalidationBus, localTimeToLive);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     CategoryGenerations categoryGenerations,
+                                     @Value("${app.cache.local.maximum-size:10000}") long localMaximumSize,
+                                     @Value("${app.cache.local.time-to-live:60s}") Duration localTimeToLive,
+                                     @Value("${app.cache.single-flight.timeout:5s}") Duration loadTimeout,
+                                     @Value("${app.cache.negative.time-to-live:30s}") Duration negativeTimeToLive,
+                                     @Value("${app.cache.totals.time-to-live:10m}") Duration totalsTimeToLive,
+                                     @Value("${app.cache.pages.time-to-live:10m}") Duration pagesTimeToLive) {
+        RedisCacheManager redisCacheManager = new BulkRedisCacheManager(connectionFactory, redisCacheConfiguration, Map.of(
+                "courses", redisCacheConfiguration,
+                "categories", redisCacheConfiguration,
+                "courses-missing", redisCacheConfiguration.entryTtl(negativeTimeToLive),
+                "categories-missing", redisCacheConfiguration.entryTtl(negativeTimeToLive),
+                "course-totals", redisCacheConfiguration.entryTtl(totalsTimeToLive),
+                "category-totals", redisCacheConfiguration.entryTtl(totalsTimeToLive),
+                "course-pages", redisCacheConfiguration.entryTtl(pagesTimeToLive),
+                "category-pages", redisCacheConfiguration.entryTtl(pagesTimeToLive)));
+        redisCacheManager.afterPropertiesSet();
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager, cacheInvalidationBus, localMaximumSize, localTimeToLive, loadTimeout);
+        cacheManager.setLocalTimeToLive("courses-missing", negativeTimeToLive);
+        cacheManager.setLocalTimeToLive("categories-missing", negativeTimeToLive);
+        cacheManager.setLocalTimeToLive("course-totals", totalsTimeToLive);
+        cacheManager.setLocalTimeToLive("category-totals", totalsTimeToLive);
+        cacheManager.setLocalTimeToLive("course-pages", pagesTimeToLive);
+        cacheManager.setLocalTimeToLive("category-pages", pagesTimeToLive);
+        registerEntryValidators(cacheManager, categoryGenerations);
+        return cacheManager;
+    }
+
+    public static void registerEntryValidators(TwoTierCacheManager cacheManager, CategoryGenerations categoryGenerations) {
+        cacheManager.setEntryValidator("courses", value -> value instanceof CachedCourse cached && cached.isCurrent(categoryGenerations));
+        cacheManager.setEntryValidator("categories", value -> value instanceof CategoryViewDTO);
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return new CacheMeterBinderProvider<>() {
+            @Override
+            public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+                return new TwoTierCacheMetrics(cache, tags);
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.model.IdGenerators;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorSeeder implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbc;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed("Category", "CatId");
+        seed("Course", "CouId");
+    }
+
+    public void seed(String table, String idColumn) {
+        Long maxId = jdbc.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+        long nextValue = maxId + IdGenerators.ALLOCATION_SIZE + 1;
+        int updated = jdbc.update("update " + IdGenerators.TABLE + " set " + IdGenerators.VALUE_COLUMN + " = ? where "
+                + IdGenerators.NAME_COLUMN + " = ? and " + IdGenerators.VALUE_COLUMN + " < ?", nextValue, table, nextValue);
+        if (updated == 0) {
+            Integer rows = jdbc.queryForObject("select count(*) from " + IdGenerators.TABLE + " where " + IdGenerators.NAME_COLUMN + " = ?", Integer.class, table);
+            if (rows == 0) {
+                jdbc.update("insert into " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") values (?, ?)", table, nextValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.service.ServiceTimingInterceptor;
+import com.marcoas.crudCursos.service.templates.BaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import java.lang.reflect.Method;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> registry) {
+        StaticMethodMatcher publicMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class;
+            }
+        };
+        return new DefaultPointcutAdvisor(new ComposablePointcut(new RootClassFilter(BaseService.class), publicMethods),
+                new ServiceTimingInterceptor(registry::getObject));
+    }
+}
@@ -0,0 +1,66 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.model.NormalizedNames;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+@Component
+public class NormalizedNameMigration implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbc;
+    private final boolean migrateOnStartup;
+    private final int batchSize;
+
+    public NormalizedNameMigration(JdbcTemplate jdbc, @Value("${app.normalized-names.migrate-on-startup:true}") boolean migrateOnStartup,
+                                   @Value("${app.normalized-names.batch-size:500}") int batchSize) {
+        this.jdbc = jdbc;
+        this.migrateOnStartup = migrateOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (migrateOnStartup) {
+            migrate("Category", "CatId", "CatName", "CatNormalizedName");
+            migrate("Course", "CouId", "CouName", "CouNormalizedName");
+        }
+    }
+
+    public int migrate(String table, String idColumn, String nameColumn, String normalizedColumn) {
+        String update = "update " + table + " set " + normalizedColumn + " = ? where " + idColumn + " = ?";
+        List<Object[]> pending = new ArrayList<>();
+        int[] updated = {0};
+        String select = "select " + idColumn + ", " + nameColumn + ", " + normalizedColumn + " from " + table;
+        jdbc.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(select);
+            statement.setFetchSize(batchSize);
+            return statement;
+        }, (RowCallbackHandler) row -> {
+            String normalized = NormalizedNames.of(row.getString(2));
+            if (!Objects.equals(normalized, row.getString(3))) {
+                pending.add(new Object[]{normalized, row.getLong(1)});
+                if (pending.size() >= batchSize) {
+                    updated[0] += flush(update, pending);
+                }
+            }
+        });
+        return updated[0] + flush(update, pending);
+    }
+
+    private int flush(String update, List<Object[]> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int updated = IntStream.of(jdbc.batchUpdate(update, pending)).map(count -> Math.max(count, 0)).sum();
+        pending.clear();
+        return updated;
+    }
+}
@@ -0,0 +1,54 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.jdbc.SlowQueryEndpoint;
+import com.marcoas.crudCursos.jdbc.SlowQueryListener;
+import com.marcoas.crudCursos.jdbc.StatementStatistics;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.sql.monitor.enabled", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public StatementStatistics statementStatistics(@Value("${app.sql.statistics.max-statements:500}") int maxStatements) {
+        return new StatementStatistics(maxStatements);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public SlowQueryListener slowQueryListener(StatementStatistics statistics,
+                                               @Value("${app.sql.slow-threshold:200ms}") Duration threshold,
+                                               @Value("${app.sql.log.sample-rate:0.001}") double sampleRate,
+                                               @Value("${app.sql.log.queue-capacity:1000}") int queueCapacity) {
+        return new SlowQueryListener(statistics, threshold, sampleRate, queueCapacity);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(StatementStatistics statistics) {
+        return new SlowQueryEndpoint(statistics);
+    }
+
+    @Bean
+    public static BeanPostProcessor statementTimingDataSourcePostProcessor(ObjectProvider<SlowQueryListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,9 +1,13 @@
 package com.marcoas.crudCursos.controller;
 
 import com.marcoas.crudCursos.controller.exception.ErrorDetails;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
 import com.marcoas.crudCursos.dto.CategoryDTO;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
-import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.dto.TotalMode;
 import com.marcoas.crudCursos.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.awt.print.Book;
 import java.util.List;
@@ -33,18 +38,51 @@ public class CategoryController {
             @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @GetMapping
-    private ResponseEntity<List<Category>> findAll() {
+    private ResponseEntity<List<CategoryViewDTO>> findAll() {
         return ResponseEntity.ok(service.findAll());
     }
 
-    @Operation(summary = "Obtém uma página de categorias através com base no tamanho(size) e posição da página(page)")
+    @Operation(summary = "Obtém vários categorias pelos ids (ids=1,2,3), na ordem informada; ids inexistentes são ignorados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categorias encontradas", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping(params = "ids")
+    private ResponseEntity<List<CategoryViewDTO>> findByIds(@RequestParam(name = "ids") List<Long> ids) {
+        return ResponseEntity.ok(service.findByIds(ids));
+    }
+
+    @Operation(summary = "Exporta todos os categorias em NDJSON (um objeto por linha), lidos do banco em streaming")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada")
+    })
+    @GetMapping(value = {"", "/export"}, produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    private ResponseEntity<StreamingResponseBody> exportAll() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(service::exportAll);
+    }
+
+    @Operation(summary = "Obtém uma página de categorias através com base no tamanho(size) e posição da página(page); total=EXACT (padrão), CACHED (contagem em cache por filtro), ESTIMATED (estatística da tabela sem filtro) ou NONE (totalElements é só um limite inferior, apenas para saber se há próxima página); sort=name|id (ex.: name,desc|id,asc), padrão id,asc; match=CONTAINS (padrão) ou PREFIX (nome começa com o filtro, ignorando acentos e maiúsculas)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Página encontrada", useReturnTypeSchema = true),
             @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @GetMapping("/pageable")
-    private ResponseEntity<Page<Category>> findAllPageable(@RequestParam(name = "size") Long size, @RequestParam(name = "page") Long page, @RequestParam(name = "filter", required = false) String filter) {
-        return ResponseEntity.ok(service.findAllPageable(filter, new PaginateDTO(size, page)));
+    private ResponseEntity<Page<CategoryViewDTO>> findAllPageable(@RequestParam(name = "size") Long size, @RequestParam(name = "page") Long page, @RequestParam(name = "filter", required = false) String filter,
+                                                                  @RequestParam(name = "total", required = false) TotalMode total,
+                                                                  @RequestParam(name = "sort", required = false) String sort,
+                                                                  @RequestParam(name = "match", required = false) MatchMode match) {
+        return ResponseEntity.ok(service.findAllPageable(filter, new PaginateDTO(size, page, total, sort, match)));
+    }
+
+    @Operation(summary = "Obtém uma fatia de categorias ordenada por nome a partir de um cursor(cursor), sem contagem total; match=CONTAINS (padrão) ou PREFIX")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fatia encontrada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping("/pageable/cursor")
+    private ResponseEntity<SliceDTO<CategoryViewDTO>> findAllByCursor(@RequestParam(name = "size") Long size, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "filter", required = false) String filter,
+                                                                      @RequestParam(name = "match", required = false) MatchMode match) {
+        return ResponseEntity.ok(service.findAllByCursor(filter, cursor, new PaginateDTO(size, null, null, null, match)));
     }
 
     @Operation(summary = "Obtém uma categoria através do id ")
@@ -54,7 +92,7 @@ public class CategoryController {
             @ApiResponse(responseCode = "404", description = "Categoria não encontrada", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @GetMapping(value = "/{id}")
-    private ResponseEntity<Category> findById(@PathVariable Long id) {
+    private ResponseEntity<CategoryViewDTO> findById(@PathVariable Long id) {
         return ResponseEntity.ok(service.findById(id));
     }
 
@@ -66,10 +104,20 @@ public class CategoryController {
             @ApiResponse(responseCode = "409", description = "Conflito ao criar categoria", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE})
-    private ResponseEntity<Category> create(@Valid @RequestBody CategoryDTO dto) {
+    private ResponseEntity<CategoryViewDTO> create(@Valid @RequestBody CategoryDTO dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.create(dto));
     }
 
+    @Operation(summary = "Cria várias categorias de uma vez, informando o resultado de cada item (criado, inválido ou em conflito)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    private ResponseEntity<BatchResultDTO> createBatch(@RequestBody List<CategoryDTO> dtos) {
+        return ResponseEntity.ok(service.createBatch(dtos));
+    }
+
     @Operation(summary = "Atualizar uma categoria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Categoria atualizada", useReturnTypeSchema = true),
@@ -78,7 +126,7 @@ public class CategoryController {
             @ApiResponse(responseCode = "409", description = "Conflito ao atualizar categoria", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @PutMapping(value = "/{id}")
-    private ResponseEntity<Category> update(@PathVariable Long id, @Valid @RequestBody CategoryDTO dto) {
+    private ResponseEntity<CategoryViewDTO> update(@PathVariable Long id, @Valid @RequestBody CategoryDTO dto) {
         return ResponseEntity.ok(service.update(id, dto));
     }
 
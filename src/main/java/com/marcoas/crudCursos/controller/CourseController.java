@@ -1,10 +1,16 @@
 package com.marcoas.crudCursos.controller;
 
 import com.marcoas.crudCursos.controller.exception.ErrorDetails;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
 import com.marcoas.crudCursos.dto.CourseDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.ImportJobDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
-import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.dto.TotalMode;
 import com.marcoas.crudCursos.service.CourseService;
+import com.marcoas.crudCursos.service.imports.CourseImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,8 +20,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,6 +33,7 @@ import java.util.List;
 @RequestMapping(value = "/api/course", produces = {"application/json"})
 public class CourseController {
     private final CourseService service;
+    private final CourseImportService importService;
 
     @Operation(summary = "Obtém uma lista de todos os cursos")
     @ApiResponses(value = {
@@ -31,18 +41,51 @@ public class CourseController {
             @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @GetMapping
-    private ResponseEntity<List<Course>> findAll() {
+    private ResponseEntity<List<CourseViewDTO>> findAll() {
         return ResponseEntity.ok(service.findAll());
     }
 
-    @Operation(summary = "Obtém uma página de cursos através com base no tamanho(size) e posição da página(page)")
+    @Operation(summary = "Obtém vários cursos pelos ids (ids=1,2,3), na ordem informada; ids inexistentes são ignorados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cursos encontrados", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping(params = "ids")
+    private ResponseEntity<List<CourseViewDTO>> findByIds(@RequestParam(name = "ids") List<Long> ids) {
+        return ResponseEntity.ok(service.findByIds(ids));
+    }
+
+    @Operation(summary = "Exporta todos os cursos em NDJSON (um objeto por linha), lidos do banco em streaming")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada")
+    })
+    @GetMapping(value = {"", "/export"}, produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    private ResponseEntity<StreamingResponseBody> exportAll() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(service::exportAll);
+    }
+
+    @Operation(summary = "Obtém uma página de cursos através com base no tamanho(size) e posição da página(page); total=EXACT (padrão), CACHED (contagem em cache por filtro), ESTIMATED (estatística da tabela sem filtro) ou NONE (totalElements é só um limite inferior, apenas para saber se há próxima página); sort=name|id|category (ex.: name,desc|id,asc), padrão id,asc; match=CONTAINS (padrão) ou PREFIX (nome começa com o filtro, ignorando acentos e maiúsculas)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Página encontrada", useReturnTypeSchema = true),
             @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @GetMapping("/pageable")
-    private ResponseEntity<Page<Course>> findAllPageable(@RequestParam(name = "size") Long size, @RequestParam(name = "page") Long page, @RequestParam(name = "filter", required = false) String filter) {
-        return ResponseEntity.ok(service.findAllPageable(filter, new PaginateDTO(size, page)));
+    private ResponseEntity<Page<CourseViewDTO>> findAllPageable(@RequestParam(name = "size") Long size, @RequestParam(name = "page") Long page, @RequestParam(name = "filter", required = false) String filter,
+                                                                @RequestParam(name = "total", required = false) TotalMode total,
+                                                                @RequestParam(name = "sort", required = false) String sort,
+                                                                @RequestParam(name = "match", required = false) MatchMode match) {
+        return ResponseEntity.ok(service.findAllPageable(filter, new PaginateDTO(size, page, total, sort, match)));
+    }
+
+    @Operation(summary = "Obtém uma fatia de cursos ordenada por nome a partir de um cursor(cursor), sem contagem total; match=CONTAINS (padrão) ou PREFIX")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fatia encontrada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping("/pageable/cursor")
+    private ResponseEntity<SliceDTO<CourseViewDTO>> findAllByCursor(@RequestParam(name = "size") Long size, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "filter", required = false) String filter,
+                                                                    @RequestParam(name = "match", required = false) MatchMode match) {
+        return ResponseEntity.ok(service.findAllByCursor(filter, cursor, new PaginateDTO(size, null, null, null, match)));
     }
 
     @Operation(summary = "Obtém um curso através do id ")
@@ -52,7 +95,7 @@ public class CourseController {
             @ApiResponse(responseCode = "404", description = "Curso não encontrado", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @GetMapping(value = "/{id}")
-    private ResponseEntity<Course> findById(@PathVariable Long id) {
+    private ResponseEntity<CourseViewDTO> findById(@PathVariable Long id) {
         return ResponseEntity.ok(service.findById(id));
     }
 
@@ -63,10 +106,41 @@ public class CourseController {
             @ApiResponse(responseCode = "409", description = "Conflito ao criar curso", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @PostMapping
-    private ResponseEntity<Course> create(@Valid @RequestBody CourseDTO dto) {
+    private ResponseEntity<CourseViewDTO> create(@Valid @RequestBody CourseDTO dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.create(dto));
     }
 
+    @Operation(summary = "Cria vários cursos de uma vez, informando o resultado de cada item (criado, inválido ou em conflito)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @PostMapping("/batch")
+    private ResponseEntity<BatchResultDTO> createBatch(@RequestBody List<CourseDTO> dtos) {
+        return ResponseEntity.ok(service.createBatch(dtos));
+    }
+
+    @Operation(summary = "Importa cursos de um arquivo CSV (colunas name,category) em segundo plano e retorna o id da importação",
+            description = "Cada registro ocupa uma única linha: campos entre aspas não podem conter quebras de linha e uma aspa sem fechamento rejeita a linha.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importação iniciada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+    private ResponseEntity<ImportJobDTO> importCsv(@RequestParam(name = "file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.start(file));
+    }
+
+    @Operation(summary = "Obtém o progresso, a vazão e os erros por linha de uma importação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação encontrada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping(value = "/import/{id}")
+    private ResponseEntity<ImportJobDTO> findImport(@PathVariable String id) {
+        return ResponseEntity.ok(importService.findJob(id));
+    }
+
     @Operation(summary = "Atualizar um curso")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Curso atualizado", useReturnTypeSchema = true),
@@ -75,7 +149,7 @@ public class CourseController {
             @ApiResponse(responseCode = "409", description = "Conflito ao atualizar curso", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
     })
     @PutMapping(value = "/{id}")
-    private ResponseEntity<Course> update(@PathVariable Long id, @Valid @RequestBody CourseDTO dto) {
+    private ResponseEntity<CourseViewDTO> update(@PathVariable Long id, @Valid @RequestBody CourseDTO dto) {
         return ResponseEntity.ok(service.update(id, dto));
     }
 
@@ -21,4 +21,9 @@ public class ApiError extends ResponseStatusException {
     public String getMessage() {
         return this.message;
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
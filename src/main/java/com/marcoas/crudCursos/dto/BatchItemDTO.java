@@ -0,0 +1,12 @@
+package com.marcoas.crudCursos.dto;
+
+public record BatchItemDTO(int index, BatchStatus status, Long id, String message) {
+
+    public static BatchItemDTO created(int index, Long id) {
+        return new BatchItemDTO(index, BatchStatus.CREATED, id, null);
+    }
+
+    public static BatchItemDTO rejected(int index, BatchStatus status, String message) {
+        return new BatchItemDTO(index, status, null, message);
+    }
+}
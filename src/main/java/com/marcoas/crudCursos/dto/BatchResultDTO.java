@@ -0,0 +1,12 @@
+package com.marcoas.crudCursos.dto;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record BatchResultDTO(int created, int rejected, List<BatchItemDTO> items) {
+
+    public static BatchResultDTO of(BatchItemDTO[] items) {
+        int created = (int) Arrays.stream(items).filter(item -> item.status() == BatchStatus.CREATED).count();
+        return new BatchResultDTO(created, items.length - created, List.of(items));
+    }
+}
@@ -0,0 +1,5 @@
+package com.marcoas.crudCursos.dto;
+
+public enum BatchStatus {
+    CREATED, INVALID, CONFLICT, FAILED
+}
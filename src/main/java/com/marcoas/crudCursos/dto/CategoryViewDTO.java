@@ -0,0 +1,12 @@
+package com.marcoas.crudCursos.dto;
+
+import com.marcoas.crudCursos.model.Category;
+
+import java.io.Serializable;
+
+public record CategoryViewDTO(Long id, String name) implements Serializable {
+
+    public static CategoryViewDTO of(Category category) {
+        return new CategoryViewDTO(category.getId(), category.getName());
+    }
+}
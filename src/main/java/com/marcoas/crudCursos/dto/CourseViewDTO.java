@@ -0,0 +1,16 @@
+package com.marcoas.crudCursos.dto;
+
+import com.marcoas.crudCursos.model.Course;
+
+import java.io.Serializable;
+
+public record CourseViewDTO(Long id, String name, CategoryViewDTO category) implements Serializable {
+
+    public CourseViewDTO(Long id, String name, Long categoryId, String categoryName) {
+        this(id, name, new CategoryViewDTO(categoryId, categoryName));
+    }
+
+    public static CourseViewDTO of(Course course) {
+        return new CourseViewDTO(course.getId(), course.getName(), course.getCategory() != null ? CategoryViewDTO.of(course.getCategory()) : null);
+    }
+}
@@ -0,0 +1,4 @@
+package com.marcoas.crudCursos.dto;
+
+public record ImportErrorDTO(long line, String message) {
+}
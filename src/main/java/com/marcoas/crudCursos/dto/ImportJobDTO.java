@@ -0,0 +1,8 @@
+package com.marcoas.crudCursos.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ImportJobDTO(String id, ImportStatus status, String message, long linesRead, long imported, long rejected,
+                           double progress, double rowsPerSecond, Instant startedAt, Instant finishedAt, List<ImportErrorDTO> errors) {
+}
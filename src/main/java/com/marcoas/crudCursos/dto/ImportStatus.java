@@ -0,0 +1,5 @@
+package com.marcoas.crudCursos.dto;
+
+public enum ImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,22 @@
+package com.marcoas.crudCursos.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record KeysetDTO(String name) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetDTO decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetDTO("");
+        }
+        String name = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Malformed cursor.");
+        }
+        return new KeysetDTO(name);
+    }
+}
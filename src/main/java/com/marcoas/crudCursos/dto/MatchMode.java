@@ -0,0 +1,15 @@
+package com.marcoas.crudCursos.dto;
+
+import com.marcoas.crudCursos.model.NormalizedNames;
+
+public enum MatchMode {
+    CONTAINS, PREFIX;
+
+    public String pattern(String filter) {
+        String normalized = NormalizedNames.of(filter);
+        if (normalized == null || normalized.isEmpty()) {
+            return null;
+        }
+        return this == PREFIX ? normalized + "%" : "%" + normalized + "%";
+    }
+}
@@ -2,14 +2,82 @@ package com.marcoas.crudCursos.dto;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
-public record PaginateDTO(Long size, Long page) {
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public record PaginateDTO(Long size, Long page, TotalMode total, String sort, MatchMode match) {
+
+    public PaginateDTO(Long size, Long page) {
+        this(size, page, null, null, null);
+    }
+
+    public PaginateDTO(Long size, Long page, TotalMode total) {
+        this(size, page, total, null, null);
+    }
+
+    public PaginateDTO(Long size, Long page, TotalMode total, String sort) {
+        this(size, page, total, sort, null);
+    }
 
     public Pageable buildPageable(){
         int pageSize = size != null ? size.intValue() : 10;
         int pageNumber = page != null ? page.intValue() : 0;
-        return PageRequest.of(pageNumber, pageSize);
+        return PageRequest.of(pageNumber, pageSize, buildSort());
     }
 
-}
+    public Pageable buildKeysetPageable(){
+        int pageSize = size != null ? size.intValue() : 10;
+        return PageRequest.of(0, pageSize);
+    }
 
+    public TotalMode totalMode(){
+        return total != null ? total : TotalMode.EXACT;
+    }
+
+    public MatchMode matchMode(){
+        return match != null ? match : MatchMode.CONTAINS;
+    }
+
+    public String pattern(String filter){
+        return matchMode().pattern(filter);
+    }
+
+    public PaginateDTO sortedBy(Map<String, String> sortable){
+        String id = sortable.get("id");
+        List<String> resolved = new ArrayList<>();
+        Sort.Direction last = Sort.Direction.ASC;
+        for (String requested : sort != null && !sort.isBlank() ? sort.split("\\|") : new String[0]) {
+            String[] parts = requested.split(",");
+            String property = sortable.get(parts[0].trim().toLowerCase(Locale.ROOT));
+            Optional<Sort.Direction> direction = parts.length == 2 ? Sort.Direction.fromOptionalString(parts[1].trim()) : Optional.of(Sort.Direction.ASC);
+            if (property == null || parts.length > 2 || direction.isEmpty()) {
+                return null;
+            }
+            last = direction.get();
+            resolved.add(property + "," + last);
+            if (property.equals(id)) {
+                return new PaginateDTO(size, page, total, String.join("|", resolved), match);
+            }
+        }
+        resolved.add(id + "," + last);
+        return new PaginateDTO(size, page, total, String.join("|", resolved), match);
+    }
+
+    private Sort buildSort(){
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String order : sort.split("\\|")) {
+            String[] parts = order.split(",");
+            orders.add(new Sort.Order(parts.length == 2 ? Sort.Direction.fromString(parts[1]) : Sort.Direction.ASC, parts[0]));
+        }
+        return Sort.by(orders);
+    }
+
+}
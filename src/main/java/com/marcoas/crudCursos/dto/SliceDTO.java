@@ -0,0 +1,17 @@
+package com.marcoas.crudCursos.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record SliceDTO<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    public static <T> SliceDTO<T> of(Slice<T> slice, Function<T, KeysetDTO> keyset) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? keyset.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new SliceDTO<>(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
@@ -0,0 +1,4 @@
+package com.marcoas.crudCursos.dto;
+
+public record StatementTimingDTO(String sql, long count, long slow, double totalMillis, double meanMillis, double maxMillis) {
+}
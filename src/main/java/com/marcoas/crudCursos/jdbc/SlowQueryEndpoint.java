@@ -0,0 +1,35 @@
+package com.marcoas.crudCursos.jdbc;
+
+import com.marcoas.crudCursos.dto.StatementTimingDTO;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+    private final StatementStatistics statistics;
+
+    public SlowQueryEndpoint(StatementStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @ReadOperation
+    public List<StatementTimingDTO> slowest(@Nullable Integer limit, @Nullable String orderBy) {
+        ToDoubleFunction<StatementTimingDTO> order = switch (orderBy != null ? orderBy : "total") {
+            case "mean" -> StatementTimingDTO::meanMillis;
+            case "max" -> StatementTimingDTO::maxMillis;
+            case "count" -> StatementTimingDTO::count;
+            default -> StatementTimingDTO::totalMillis;
+        };
+        return statistics.slowest(limit != null && limit > 0 ? limit : 20, order);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -0,0 +1,90 @@
+package com.marcoas.crudCursos.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+    private static final String START = SlowQueryListener.class.getName() + ".start";
+
+    private final StatementStatistics statistics;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    public SlowQueryListener(StatementStatistics statistics, Duration threshold, double sampleRate, int queueCapacity) {
+        this.statistics = statistics;
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("sql-log-"), (task, executor) -> dropped.increment());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        boolean slow = nanos >= thresholdNanos;
+        String statement = statement(queryInfoList);
+        statistics.record(statement, nanos, slow);
+        if (slow) {
+            log(true, statement, nanos, execInfo);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log(false, statement, nanos, execInfo);
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private String statement(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return statistics.normalize(queryInfoList.get(0).getQuery());
+        }
+        StringBuilder statement = new StringBuilder();
+        for (QueryInfo queryInfo : queryInfoList) {
+            statement.append(statement.isEmpty() ? "" : "; ").append(statistics.normalize(queryInfo.getQuery()));
+        }
+        return statement.toString();
+    }
+
+    private void log(boolean slow, String statement, long nanos, ExecutionInfo execInfo) {
+        double millis = nanos / 1_000_000.0;
+        int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 0;
+        boolean success = execInfo.isSuccess();
+        executor.execute(() -> {
+            if (slow) {
+                log.warn("slow=true elapsedMs={} batch={} success={} sql=\"{}\"", millis, batchSize, success, statement);
+            } else {
+                log.info("slow=false elapsedMs={} batch={} success={} sql=\"{}\"", millis, batchSize, success, statement);
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.marcoas.crudCursos.jdbc;
+
+import java.util.regex.Pattern;
+
+public final class StatementNormalizer {
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private StatementNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        StringBuilder normalized = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i++;
+                while (i < length && (sql.charAt(i) != '\'' || i + 1 < length && sql.charAt(i + 1) == '\'')) {
+                    i += sql.charAt(i) == '\'' ? 2 : 1;
+                }
+                normalized.append('?');
+                i++;
+            } else if (Character.isDigit(c) && !partOfIdentifier(normalized)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                normalized.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+            } else {
+                normalized.append(c);
+                i++;
+            }
+        }
+        String collapsed = normalized.toString().strip();
+        return collapsed.indexOf(',') >= 0 ? PARAMETER_LIST.matcher(collapsed).replaceAll("(?)") : collapsed;
+    }
+
+    private static boolean partOfIdentifier(StringBuilder normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        char previous = normalized.charAt(normalized.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '.';
+    }
+}
@@ -0,0 +1,76 @@
+package com.marcoas.crudCursos.jdbc;
+
+import com.marcoas.crudCursos.dto.StatementTimingDTO;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+public class StatementStatistics {
+    public static final String OTHER = "(other)";
+
+    private final int maxStatements;
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    public StatementStatistics(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public String normalize(String sql) {
+        String statement = normalized.get(sql);
+        if (statement != null) {
+            return statement;
+        }
+        statement = StatementNormalizer.normalize(sql);
+        if (normalized.size() < maxStatements * 4) {
+            normalized.putIfAbsent(sql, statement);
+        }
+        return statement;
+    }
+
+    public void record(String statement, long nanos, boolean slow) {
+        Timing timing = timings.get(statement);
+        if (timing == null) {
+            timing = timings.size() < maxStatements
+                    ? timings.computeIfAbsent(statement, key -> new Timing())
+                    : timings.computeIfAbsent(OTHER, key -> new Timing());
+        }
+        timing.count.increment();
+        timing.nanos.add(nanos);
+        timing.max.accumulate(nanos);
+        if (slow) {
+            timing.slow.increment();
+        }
+    }
+
+    public List<StatementTimingDTO> slowest(int limit, ToDoubleFunction<StatementTimingDTO> order) {
+        return timings.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(Comparator.comparingDouble(order).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        timings.clear();
+    }
+
+    private static class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+        private StatementTimingDTO toDTO(String sql) {
+            long executions = count.sum();
+            double totalMillis = nanos.sum() / 1_000_000.0;
+            return new StatementTimingDTO(sql, executions, slow.sum(), totalMillis,
+                    executions > 0 ? totalMillis / executions : 0, max.get() / 1_000_000.0);
+        }
+    }
+}
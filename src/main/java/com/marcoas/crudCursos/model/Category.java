@@ -3,20 +3,20 @@ package com.marcoas.crudCursos.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
-import org.apache.commons.lang3.builder.EqualsBuilder;
 
 import java.io.Serializable;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "Category")
+@Table(name = "Category", indexes = @Index(name = "IdxCategoryNormalizedName", columnList = "CatNormalizedName, CatId"))
 @NoArgsConstructor
-@AllArgsConstructor
 @ToString
 public class Category implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "CategoryIdGenerator")
+    @TableGenerator(name = "CategoryIdGenerator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "Category", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "CatId")
     private Long id;
 
@@ -25,8 +25,30 @@ public class Category implements Serializable {
     @Column(name = "CatName", unique = true)
     private String name;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "CatNormalizedName")
+    private String normalizedName;
+
+    public Category(Long id, String name) {
+        this.id = id;
+        setName(name);
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        this.normalizedName = NormalizedNames.of(name);
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof Category other && getId() != null && getId().equals(other.getId());
+    }
+
     @Override
-    public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(obj, this);
+    public final int hashCode() {
+        return Category.class.hashCode();
     }
 }
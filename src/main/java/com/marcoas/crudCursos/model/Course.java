@@ -9,13 +9,16 @@ import java.io.Serializable;
 @Getter
 @Setter
 @Entity
-@Table(name = "Course")
-@AllArgsConstructor
+@Table(name = "Course", indexes = {
+        @Index(name = "IdxCourseNormalizedName", columnList = "CouNormalizedName, CouId"),
+        @Index(name = "IdxCourseCategory", columnList = "CouCategoryId, CouId")})
 @NoArgsConstructor
 @ToString
 public class Course implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "CourseIdGenerator")
+    @TableGenerator(name = "CourseIdGenerator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "Course", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "CouId")
     private Long id;
 
@@ -24,7 +27,36 @@ public class Course implements Serializable {
     @Column(name = "CouName", unique = true)
     private String name;
 
-    @ManyToOne(optional = false)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "CouNormalizedName")
+    private String normalizedName;
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "CouCategoryId", referencedColumnName = "CatId")
     private Category category;
+
+    public Course(Long id, String name, Category category) {
+        this.id = id;
+        setName(name);
+        this.category = category;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        this.normalizedName = NormalizedNames.of(name);
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof Course other && getId() != null && getId().equals(other.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return Course.class.hashCode();
+    }
 }
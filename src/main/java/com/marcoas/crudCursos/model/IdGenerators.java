@@ -0,0 +1,11 @@
+package com.marcoas.crudCursos.model;
+
+public final class IdGenerators {
+    public static final String TABLE = "IdGenerator";
+    public static final String NAME_COLUMN = "GenName";
+    public static final String VALUE_COLUMN = "GenNextValue";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
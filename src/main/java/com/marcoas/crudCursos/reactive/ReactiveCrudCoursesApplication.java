@@ -0,0 +1,28 @@
+package com.marcoas.crudCursos.reactive;
+
+import com.marcoas.crudCursos.service.ErrorReporter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class})
+@Import(ErrorReporter.class)
+public class ReactiveCrudCoursesApplication {
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveCrudCoursesApplication.class)
+				.web(WebApplicationType.REACTIVE)
+				.profiles("reactive")
+				.run(args);
+	}
+
+	@Bean
+	public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+}
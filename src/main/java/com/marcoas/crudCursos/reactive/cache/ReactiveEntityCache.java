@@ -0,0 +1,108 @@
+package com.marcoas.crudCursos.reactive.cache;
+
+import com.marcoas.crudCursos.cache.RedisCategoryGenerations;
+import com.marcoas.crudCursos.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class ReactiveEntityCache {
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final Duration timeToLive;
+    private final Duration negativeTimeToLive;
+
+    public ReactiveEntityCache(ReactiveRedisConnectionFactory connectionFactory,
+                               @Value("${app.cache.serializer.format:binary}") String serializer,
+                               @Value("${app.cache.serializer.compression-threshold:512}") int compressionThreshold,
+                               @Value("${spring.cache.redis.time-to-live:0}") Duration timeToLive,
+                               @Value("${app.cache.negative.time-to-live:30s}") Duration negativeTimeToLive) {
+        RedisSerializer<Object> valueSerializer = CacheConfig.valueSerializer(serializer, compressionThreshold, getClass().getClassLoader());
+        this.redisTemplate = new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext.<String, Object>newSerializationContext(RedisSerializer.string())
+                .value(valueSerializer)
+                .hashKey(RedisSerializer.string())
+                .hashValue(RedisSerializer.string())
+                .build());
+        this.timeToLive = timeToLive;
+        this.negativeTimeToLive = negativeTimeToLive;
+    }
+
+    public Mono<Object> get(String cacheName, Object key) {
+        return redisTemplate.opsForValue().get(cacheKey(cacheName, key))
+                .onErrorResume(SerializationException.class, e -> Mono.empty());
+    }
+
+    public Mono<Map<Object, Object>> getAll(String cacheName, List<?> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return redisTemplate.opsForValue().multiGet(keys.stream().map(key -> cacheKey(cacheName, key)).toList())
+                .map(values -> {
+                    Map<Object, Object> found = new HashMap<>();
+                    for (int i = 0; i < keys.size() && i < values.size(); i++) {
+                        if (values.get(i) != null) {
+                            found.put(keys.get(i), values.get(i));
+                        }
+                    }
+                    return found;
+                })
+                .onErrorResume(SerializationException.class, e -> Mono.just(Map.of()));
+    }
+
+    public Mono<Void> put(String cacheName, Object key, Object value) {
+        return set(cacheKey(cacheName, key), value, timeToLive);
+    }
+
+    public Mono<Void> putAll(String cacheName, Map<?, ?> values) {
+        return Flux.fromIterable(values.entrySet())
+                .flatMap(entry -> set(cacheKey(cacheName, entry.getKey()), entry.getValue(), timeToLive))
+                .then();
+    }
+
+    public Mono<Boolean> isMissing(String cacheName, Object key) {
+        return redisTemplate.hasKey(cacheKey(cacheName + "-missing", key));
+    }
+
+    public Mono<Void> markMissing(String cacheName, Object key) {
+        return set(cacheKey(cacheName + "-missing", key), Boolean.TRUE, negativeTimeToLive);
+    }
+
+    public Mono<Map<Long, Long>> generations(Collection<Long> categoryIds) {
+        List<Long> ids = categoryIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return redisTemplate.<String, String>opsForHash().multiGet(RedisCategoryGenerations.KEY, ids.stream().map(String::valueOf).toList())
+                .map(values -> {
+                    Map<Long, Long> generations = new HashMap<>();
+                    for (int i = 0; i < ids.size(); i++) {
+                        String value = i < values.size() ? values.get(i) : null;
+                        generations.put(ids.get(i), value != null ? Long.parseLong(value) : 0L);
+                    }
+                    return generations;
+                });
+    }
+
+    private Mono<Void> set(String key, Object value, Duration ttl) {
+        Mono<Boolean> set = ttl.isZero() || ttl.isNegative()
+                ? redisTemplate.opsForValue().set(key, value)
+                : redisTemplate.opsForValue().set(key, value, ttl);
+        return set.then();
+    }
+
+    private static String cacheKey(String cacheName, Object key) {
+        return cacheName + "::" + key;
+    }
+}
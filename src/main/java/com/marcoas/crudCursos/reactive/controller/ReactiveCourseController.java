@@ -0,0 +1,96 @@
+package com.marcoas.crudCursos.reactive.controller;
+
+import com.marcoas.crudCursos.controller.exception.ErrorDetails;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.reactive.service.ReactiveCourseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/course", produces = {"application/json"})
+public class ReactiveCourseController {
+    private final ReactiveCourseService service;
+
+    @Operation(summary = "Obtém uma lista de todos os cursos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista encontrada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping
+    private Flux<CourseViewDTO> findAll() {
+        return service.findAll();
+    }
+
+    @Operation(summary = "Obtém vários cursos pelos ids (ids=1,2,3), na ordem informada; ids inexistentes são ignorados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cursos encontrados", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping(params = "ids")
+    private Mono<ResponseEntity<List<CourseViewDTO>>> findByIds(@RequestParam(name = "ids") List<Long> ids) {
+        return service.findByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Exporta todos os cursos em NDJSON (um objeto por linha), lidos do banco em streaming")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada")
+    })
+    @GetMapping(value = {"", "/export"}, produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    private Flux<CourseViewDTO> exportAll() {
+        return service.findAll();
+    }
+
+    @Operation(summary = "Obtém uma página de cursos através com base no tamanho(size) e posição da página(page); sort=name|id|category (ex.: name,desc|id,asc), padrão id,asc; match=CONTAINS (padrão) ou PREFIX (nome começa com o filtro, ignorando acentos e maiúsculas)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página encontrada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping("/pageable")
+    private Mono<ResponseEntity<Page<CourseViewDTO>>> findAllPageable(@RequestParam(name = "size") Long size, @RequestParam(name = "page") Long page, @RequestParam(name = "filter", required = false) String filter,
+                                                                      @RequestParam(name = "sort", required = false) String sort,
+                                                                      @RequestParam(name = "match", required = false) MatchMode match) {
+        return service.findAllPageable(filter, new PaginateDTO(size, page, null, sort, match)).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Obtém uma fatia de cursos ordenada por nome a partir de um cursor(cursor), sem contagem total; match=CONTAINS (padrão) ou PREFIX")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fatia encontrada", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping("/pageable/cursor")
+    private Mono<ResponseEntity<SliceDTO<CourseViewDTO>>> findAllByCursor(@RequestParam(name = "size") Long size, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "filter", required = false) String filter,
+                                                                          @RequestParam(name = "match", required = false) MatchMode match) {
+        return service.findAllByCursor(filter, cursor, new PaginateDTO(size, null, null, null, match)).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Obtém um curso através do id ")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Curso encontrado", useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400", description = "Requisição Inválida", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))}),
+            @ApiResponse(responseCode = "404", description = "Curso não encontrado", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))})
+    })
+    @GetMapping(value = "/{id}")
+    private Mono<ResponseEntity<CourseViewDTO>> findById(@PathVariable Long id) {
+        return service.findById(id).map(ResponseEntity::ok);
+    }
+}
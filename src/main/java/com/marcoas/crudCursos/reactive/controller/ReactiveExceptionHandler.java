@@ -0,0 +1,28 @@
+package com.marcoas.crudCursos.reactive.controller;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.controller.exception.ErrorDetails;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ServerWebInputException;
+
+@ControllerAdvice
+public class ReactiveExceptionHandler {
+    @ExceptionHandler(ServerWebInputException.class)
+    public final ResponseEntity<ErrorDetails> handleServerWebInputException(ServerWebInputException ex) {
+        return new ResponseEntity<>(new ErrorDetails(ex.getReason()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public final ResponseEntity<ErrorDetails> handleException(Exception ex) {
+        ErrorDetails errorDetails = new ErrorDetails("An unexpected error occurred.");
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ApiError.class)
+    public final ResponseEntity<ErrorDetails> handleApiErrorException(ApiError ex) {
+        return new ResponseEntity<>(new ErrorDetails(ex.getMessage()), ex.getStatusCode());
+    }
+}
@@ -0,0 +1,69 @@
+package com.marcoas.crudCursos.reactive.repository;
+
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+import static com.marcoas.crudCursos.reactive.repository.ReactiveCourseRepository.bindPattern;
+import static com.marcoas.crudCursos.reactive.repository.ReactiveCourseRepository.orderBy;
+import static com.marcoas.crudCursos.reactive.repository.ReactiveCourseRepository.toSlice;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveCategoryRepository {
+    private static final String SELECT = "select c.CatId, c.CatName from Category c";
+    private static final String FILTER = "c.CatNormalizedName like :pattern";
+
+    private final DatabaseClient client;
+
+    public Mono<CategoryViewDTO> findById(Long id) {
+        return client.sql(SELECT + " where c.CatId = :id").bind("id", id).map(ReactiveCategoryRepository::toCategory).one();
+    }
+
+    public Flux<CategoryViewDTO> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return client.sql(SELECT + " where c.CatId in (:ids)").bind("ids", ids).map(ReactiveCategoryRepository::toCategory).all();
+    }
+
+    public Flux<CategoryViewDTO> findAll() {
+        return client.sql(SELECT).map(ReactiveCategoryRepository::toCategory).all();
+    }
+
+    public Mono<Page<CategoryViewDTO>> findByNameContains(String pattern, Pageable pageable) {
+        String where = pattern != null ? " where " + FILTER : "";
+        DatabaseClient.GenericExecuteSpec content = bindPattern(client.sql(SELECT + where + orderBy(pageable.getSort()) + " limit :limit offset :offset"), pattern)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset());
+        DatabaseClient.GenericExecuteSpec count = bindPattern(client.sql("select count(*) from Category c" + where), pattern);
+        return Mono.zip(content.map(ReactiveCategoryRepository::toCategory).all().collectList(),
+                        count.map(row -> row.get(0, Long.class)).one())
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    public Mono<Slice<CategoryViewDTO>> findNextByNameContains(String pattern, String lastName, Pageable pageable) {
+        String where = " where " + (pattern != null ? FILTER + " and " : "") + "c.CatName > :lastName order by c.CatName limit :limit";
+        return bindPattern(client.sql(SELECT + where), pattern)
+                .bind("lastName", lastName)
+                .bind("limit", pageable.getPageSize() + 1)
+                .map(ReactiveCategoryRepository::toCategory)
+                .all()
+                .collectList()
+                .map(categories -> toSlice(categories, pageable));
+    }
+
+    private static CategoryViewDTO toCategory(Readable row) {
+        return new CategoryViewDTO(row.get("CatId", Long.class), row.get("CatName", String.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.marcoas.crudCursos.reactive.repository;
+
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveCourseRepository {
+    private static final String SELECT = "select c.CouId, c.CouName, k.CatId, k.CatName from Course c join Category k on k.CatId = c.CouCategoryId";
+    private static final String FILTER = "(c.CouId in (select x.CouId from Course x where x.CouNormalizedName like :pattern) " +
+            "or c.CouCategoryId in (select f.CatId from Category f where f.CatNormalizedName like :pattern))";
+
+    private final DatabaseClient client;
+
+    public Mono<CourseViewDTO> findById(Long id) {
+        return client.sql(SELECT + " where c.CouId = :id").bind("id", id).map(ReactiveCourseRepository::toCourse).one();
+    }
+
+    public Flux<CourseViewDTO> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return client.sql(SELECT + " where c.CouId in (:ids)").bind("ids", ids).map(ReactiveCourseRepository::toCourse).all();
+    }
+
+    public Flux<CourseViewDTO> findAll() {
+        return client.sql(SELECT).map(ReactiveCourseRepository::toCourse).all();
+    }
+
+    public Mono<Long> findCategoryIdById(Long id) {
+        return client.sql("select CouCategoryId from Course where CouId = :id").bind("id", id)
+                .map(row -> row.get("CouCategoryId", Long.class)).one();
+    }
+
+    public Mono<Map<Long, Long>> findCategoryIdsByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return client.sql("select CouId, CouCategoryId from Course where CouId in (:ids)").bind("ids", ids)
+                .map(row -> Map.entry(row.get("CouId", Long.class), row.get("CouCategoryId", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    public Mono<Page<CourseViewDTO>> findByNameContainsOrCategory_NameContains(String pattern, Pageable pageable) {
+        String where = pattern != null ? " where " + FILTER : "";
+        DatabaseClient.GenericExecuteSpec content = bindPattern(client.sql(SELECT + where + orderBy(pageable.getSort()) + " limit :limit offset :offset"), pattern)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset());
+        DatabaseClient.GenericExecuteSpec count = bindPattern(client.sql("select count(*) from Course c join Category k on k.CatId = c.CouCategoryId" + where), pattern);
+        return Mono.zip(content.map(ReactiveCourseRepository::toCourse).all().collectList(),
+                        count.map(row -> row.get(0, Long.class)).one())
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    public Mono<Slice<CourseViewDTO>> findNextByNameContainsOrCategory_NameContains(String pattern, String lastName, Pageable pageable) {
+        String where = " where " + (pattern != null ? FILTER + " and " : "") + "c.CouName > :lastName order by c.CouName limit :limit";
+        return bindPattern(client.sql(SELECT + where), pattern)
+                .bind("lastName", lastName)
+                .bind("limit", pageable.getPageSize() + 1)
+                .map(ReactiveCourseRepository::toCourse)
+                .all()
+                .collectList()
+                .map(courses -> toSlice(courses, pageable));
+    }
+
+    static DatabaseClient.GenericExecuteSpec bindPattern(DatabaseClient.GenericExecuteSpec spec, String pattern) {
+        return pattern != null ? spec.bind("pattern", pattern) : spec;
+    }
+
+    static String orderBy(Sort sort) {
+        return sort.isSorted() ? " order by " + sort.stream().map(order -> order.getProperty() + " " + order.getDirection()).collect(Collectors.joining(", ")) : "";
+    }
+
+    static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private static CourseViewDTO toCourse(Readable row) {
+        return new CourseViewDTO(row.get("CouId", Long.class), row.get("CouName", String.class), row.get("CatId", Long.class), row.get("CatName", String.class));
+    }
+}
@@ -0,0 +1,115 @@
+package com.marcoas.crudCursos.reactive.service;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.KeysetDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.reactive.cache.ReactiveEntityCache;
+import com.marcoas.crudCursos.reactive.repository.ReactiveCategoryRepository;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class ReactiveCategoryService {
+    private static final Map<String, String> SORTABLE = Map.of("id", "c.CatId", "name", "c.CatNormalizedName");
+
+    private final ReactiveCategoryRepository repository;
+    private final ReactiveEntityCache cache;
+    private final ErrorReporter errorReporter;
+    private final int maxBatchSize;
+
+    public ReactiveCategoryService(ReactiveCategoryRepository repository, ReactiveEntityCache cache, ErrorReporter errorReporter,
+                                   @Value("${app.batch.max-size:1000}") int maxBatchSize) {
+        this.repository = repository;
+        this.cache = cache;
+        this.errorReporter = errorReporter;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Mono<CategoryViewDTO> findById(Long id) {
+        return cache.get("categories", id)
+                .ofType(CategoryViewDTO.class)
+                .switchIfEmpty(Mono.defer(() -> loadCategory(id)))
+                .onErrorMap(e -> !(e instanceof ApiError), e -> unexpected("Error searching category.", e));
+    }
+
+    public Mono<List<CategoryViewDTO>> findByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxBatchSize) {
+            return Mono.error(new ApiError("Batch must contain between 1 and " + maxBatchSize + " items."));
+        }
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        return cache.getAll("categories", distinct)
+                .flatMap(cached -> {
+                    List<Long> misses = distinct.stream().filter(id -> !(cached.get(id) instanceof CategoryViewDTO)).toList();
+                    if (misses.isEmpty()) {
+                        return Mono.just(cached);
+                    }
+                    return repository.findAllById(misses)
+                            .collectMap(CategoryViewDTO::id)
+                            .flatMap(loaded -> cache.putAll("categories", loaded).then(Mono.fromSupplier(() -> {
+                                Map<Object, Object> all = new HashMap<>(cached);
+                                all.putAll(loaded);
+                                return all;
+                            })));
+                })
+                .map(found -> {
+                    List<CategoryViewDTO> categories = new ArrayList<>(distinct.size());
+                    for (Long id : distinct) {
+                        if (found.get(id) instanceof CategoryViewDTO category) {
+                            categories.add(category);
+                        }
+                    }
+                    return categories;
+                })
+                .onErrorMap(e -> !(e instanceof ApiError), e -> unexpected("Error searching categories.", e));
+    }
+
+    public Flux<CategoryViewDTO> findAll() {
+        return repository.findAll()
+                .onErrorMap(e -> unexpected("Error searching categories.", e));
+    }
+
+    public Mono<Page<CategoryViewDTO>> findAllPageable(String filter, PaginateDTO paginateDTO) {
+        PaginateDTO sorted = paginateDTO.sortedBy(SORTABLE);
+        if (sorted == null) {
+            return Mono.error(new ApiError("Invalid sort."));
+        }
+        return repository.findByNameContains(sorted.pattern(filter), sorted.buildPageable())
+                .onErrorMap(e -> unexpected("Error searching category.", e));
+    }
+
+    public Mono<SliceDTO<CategoryViewDTO>> findAllByCursor(String filter, String cursor, PaginateDTO paginateDTO) {
+        return Mono.fromCallable(() -> KeysetDTO.decode(cursor))
+                .onErrorMap(IllegalArgumentException.class, e -> new ApiError("Invalid cursor."))
+                .flatMap(keyset -> repository.findNextByNameContains(paginateDTO.pattern(filter), keyset.name(), paginateDTO.buildKeysetPageable()))
+                .map(slice -> SliceDTO.of(slice, category -> new KeysetDTO(category.name())))
+                .onErrorMap(e -> !(e instanceof ApiError), e -> unexpected("Error searching category.", e));
+    }
+
+    private Mono<CategoryViewDTO> loadCategory(Long id) {
+        return cache.isMissing("categories", id)
+                .flatMap(missing -> missing
+                        ? Mono.<CategoryViewDTO>error(new ApiError("Category not found.", HttpStatusCode.valueOf(404)))
+                        : repository.findById(id)
+                        .flatMap(category -> cache.put("categories", id, category).thenReturn(category))
+                        .switchIfEmpty(Mono.defer(() -> cache.markMissing("categories", id)
+                                .then(Mono.error(new ApiError("Category not found.", HttpStatusCode.valueOf(404)))))));
+    }
+
+    private ApiError unexpected(String message, Throwable e) {
+        errorReporter.report(message, e);
+        return new ApiError(message);
+    }
+}
@@ -0,0 +1,161 @@
+package com.marcoas.crudCursos.reactive.service;
+
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.KeysetDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.reactive.cache.ReactiveEntityCache;
+import com.marcoas.crudCursos.reactive.repository.ReactiveCourseRepository;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class ReactiveCourseService {
+    private static final Map<String, String> SORTABLE = Map.of("id", "c.CouId", "name", "c.CouNormalizedName", "category", "c.CouCategoryId");
+
+    private final ReactiveCourseRepository repository;
+    private final ReactiveEntityCache cache;
+    private final ErrorReporter errorReporter;
+    private final int maxBatchSize;
+
+    public ReactiveCourseService(ReactiveCourseRepository repository, ReactiveEntityCache cache, ErrorReporter errorReporter,
+                                 @Value("${app.batch.max-size:1000}") int maxBatchSize) {
+        this.repository = repository;
+        this.cache = cache;
+        this.errorReporter = errorReporter;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Mono<CourseViewDTO> findById(Long id) {
+        return cache.get("courses", id)
+                .flatMap(value -> value instanceof CachedCourse cached ? current(cached) : Mono.<CourseViewDTO>empty())
+                .switchIfEmpty(Mono.defer(() -> loadCourse(id)))
+                .onErrorMap(e -> !(e instanceof ApiError), e -> unexpected("Error searching course.", e));
+    }
+
+    public Mono<List<CourseViewDTO>> findByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxBatchSize) {
+            return Mono.error(new ApiError("Batch must contain between 1 and " + maxBatchSize + " items."));
+        }
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        return cache.getAll("courses", distinct)
+                .flatMap(this::currentOnly)
+                .flatMap(cached -> {
+                    List<Long> misses = distinct.stream().filter(id -> !cached.containsKey(id)).toList();
+                    if (misses.isEmpty()) {
+                        return Mono.just(cached);
+                    }
+                    return loadCourses(misses).map(loaded -> {
+                        Map<Long, CourseViewDTO> all = new HashMap<>(cached);
+                        all.putAll(loaded);
+                        return all;
+                    });
+                })
+                .map(found -> {
+                    List<CourseViewDTO> courses = new ArrayList<>(distinct.size());
+                    for (Long id : distinct) {
+                        if (found.get(id) != null) {
+                            courses.add(found.get(id));
+                        }
+                    }
+                    return courses;
+                })
+                .onErrorMap(e -> !(e instanceof ApiError), e -> unexpected("Error searching courses.", e));
+    }
+
+    public Flux<CourseViewDTO> findAll() {
+        return repository.findAll()
+                .onErrorMap(e -> unexpected("Error searching courses.", e));
+    }
+
+    public Mono<Page<CourseViewDTO>> findAllPageable(String filter, PaginateDTO paginateDTO) {
+        PaginateDTO sorted = paginateDTO.sortedBy(SORTABLE);
+        if (sorted == null) {
+            return Mono.error(new ApiError("Invalid sort."));
+        }
+        return repository.findByNameContainsOrCategory_NameContains(sorted.pattern(filter), sorted.buildPageable())
+                .onErrorMap(e -> unexpected("Error searching course.", e));
+    }
+
+    public Mono<SliceDTO<CourseViewDTO>> findAllByCursor(String filter, String cursor, PaginateDTO paginateDTO) {
+        return Mono.fromCallable(() -> KeysetDTO.decode(cursor))
+                .onErrorMap(IllegalArgumentException.class, e -> new ApiError("Invalid cursor."))
+                .flatMap(keyset -> repository.findNextByNameContainsOrCategory_NameContains(paginateDTO.pattern(filter), keyset.name(), paginateDTO.buildKeysetPageable()))
+                .map(slice -> SliceDTO.of(slice, course -> new KeysetDTO(course.name())))
+                .onErrorMap(e -> !(e instanceof ApiError), e -> unexpected("Error searching course.", e));
+    }
+
+    private Mono<CourseViewDTO> current(CachedCourse cached) {
+        if (cached.course().category() == null) {
+            return Mono.empty();
+        }
+        Long categoryId = cached.course().category().id();
+        return cache.generations(List.of(categoryId))
+                .mapNotNull(generations -> cached.isCurrent(generations.get(categoryId)) ? cached.course() : null);
+    }
+
+    private Mono<Map<Long, CourseViewDTO>> currentOnly(Map<Object, Object> cached) {
+        List<CachedCourse> courses = cached.values().stream()
+                .filter(value -> value instanceof CachedCourse course && course.course().category() != null)
+                .map(CachedCourse.class::cast)
+                .toList();
+        return cache.generations(courses.stream().map(course -> course.course().category().id()).toList())
+                .map(generations -> {
+                    Map<Long, CourseViewDTO> current = new HashMap<>();
+                    for (CachedCourse course : courses) {
+                        if (course.isCurrent(generations.get(course.course().category().id()))) {
+                            current.put(course.course().id(), course.course());
+                        }
+                    }
+                    return current;
+                });
+    }
+
+    private Mono<CourseViewDTO> loadCourse(Long id) {
+        return cache.isMissing("courses", id)
+                .flatMap(missing -> missing
+                        ? Mono.<CourseViewDTO>error(new ApiError("Course not found.", HttpStatusCode.valueOf(404)))
+                        : repository.findCategoryIdById(id)
+                        .flatMap(categoryId -> cache.generations(List.of(categoryId))
+                                .flatMap(generations -> repository.findById(id)
+                                        .flatMap(course -> cache.put("courses", id, new CachedCourse(categoryId.equals(course.category().id())
+                                                ? generations.get(categoryId) : CachedCourse.NEVER_CURRENT, course)).thenReturn(course))))
+                        .switchIfEmpty(Mono.defer(() -> cache.markMissing("courses", id)
+                                .then(Mono.error(new ApiError("Course not found.", HttpStatusCode.valueOf(404)))))));
+    }
+
+    private Mono<Map<Long, CourseViewDTO>> loadCourses(List<Long> ids) {
+        return repository.findCategoryIdsByIdIn(ids)
+                .flatMap(categoryIds -> cache.generations(categoryIds.values())
+                        .flatMap(generations -> repository.findAllById(ids).collectList()
+                                .flatMap(courses -> {
+                                    Map<Long, CachedCourse> loaded = new LinkedHashMap<>();
+                                    for (CourseViewDTO course : courses) {
+                                        boolean sameCategory = course.category().id().equals(categoryIds.get(course.id()));
+                                        loaded.put(course.id(), new CachedCourse(sameCategory ? generations.get(course.category().id()) : CachedCourse.NEVER_CURRENT, course));
+                                    }
+                                    Map<Long, CourseViewDTO> found = new HashMap<>();
+                                    courses.forEach(course -> found.put(course.id(), course));
+                                    return cache.putAll("courses", loaded).thenReturn(found);
+                                })));
+    }
+
+    private ApiError unexpected(String message, Throwable e) {
+        errorReporter.report(message, e);
+        return new ApiError(message);
+    }
+}
@@ -1,14 +1,61 @@
 package com.marcoas.crudCursos.repository;
 
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
 import com.marcoas.crudCursos.model.Category;
-import org.springframework.data.domain.Page;
+import com.marcoas.crudCursos.search.IndexedName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
+@Transactional(readOnly = true)
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-    @Query("select c from Category c where :filter is null or lower(trim(c.name)) like lower(trim(concat('%', :filter, '%')))")
-    Page<Category> findByNameContains(String filter, Pageable pageable);
+    String VIEW = "select new com.marcoas.crudCursos.dto.CategoryViewDTO(c.id, c.name) from Category c";
+    String FILTER = " where c.normalizedName like coalesce(:pattern, '%')";
+
+    @Query(VIEW + " where c.id = :id")
+    Optional<CategoryViewDTO> findViewById(Long id);
+
+    @Query(VIEW + " where c.id in :ids")
+    List<CategoryViewDTO> findViewsByIdIn(Collection<Long> ids);
+
+    @Query(VIEW)
+    List<CategoryViewDTO> findAllViews();
+
+    @Query(VIEW + FILTER)
+    Slice<CategoryViewDTO> findByNameContains(String pattern, Pageable pageable);
+
+    @Query("select count(c) from Category c" + FILTER)
+    long countByNameContains(String pattern);
+
+    @Query(VIEW + " where c.normalizedName like coalesce(:pattern, '%') " +
+            "and c.name > :lastName order by c.name")
+    Slice<CategoryViewDTO> findNextByNameContains(String pattern, String lastName, Pageable pageable);
+
+    List<Category> findByNameIn(Collection<String> names);
+
+    @Query("select c.name from Category c where c.name in :names")
+    List<String> findNamesByNameIn(Collection<String> names);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW)
+    Stream<CategoryViewDTO> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.marcoas.crudCursos.search.IndexedName(c.id, c.name) from Category c")
+    Stream<IndexedName> streamIndexedNames();
+
+    @Query("select new com.marcoas.crudCursos.search.IndexedName(c.id, c.name) from Category c where c.id in :ids")
+    List<IndexedName> findIndexedNamesByIdIn(Collection<Long> ids);
 }
@@ -1,18 +1,85 @@
 package com.marcoas.crudCursos.repository;
 
+import com.marcoas.crudCursos.dto.CourseViewDTO;
 import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.search.IndexedName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
+@Transactional(readOnly = true)
 public interface CourseRepository extends JpaRepository<Course,Long> {
-    List<Course> findByCategory_Id(Long id);
+    String VIEW = "select new com.marcoas.crudCursos.dto.CourseViewDTO(c.id, c.name, k.id, k.name) from Course c join c.category k";
+    String FILTER = " where :pattern is null or c.normalizedName like :pattern or k.normalizedName like :pattern";
+    String ID_FILTER = " where :pattern is null or c.id in (select x.id from Course x where x.normalizedName like :pattern) " +
+            "or c.category.id in (select f.id from Category f where f.normalizedName like :pattern)";
 
-    @Query("select c from Course c where :filter is null or lower(trim(c.name)) like lower(trim( concat('%', :filter, '%'))) or lower(trim(c.category.name)) like lower(trim(concat('%', :filter, '%')))")
-    Page<Course> findByNameContainsOrCategory_NameContains(String filter, Pageable pageable);
+    @EntityGraph(attributePaths = "category")
+    @Override
+    List<Course> findAll();
+
+    @EntityGraph(attributePaths = "category")
+    @Override
+    Page<Course> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    @Override
+    List<Course> findAllById(Iterable<Long> ids);
+
+    @Query("select c.category.id from Course c where c.id = :id")
+    Optional<Long> findCategoryIdById(Long id);
+
+    @Query("select c.id, c.category.id from Course c where c.id in :ids")
+    List<Object[]> findCategoryIdsByIdIn(Collection<Long> ids);
+
+    @Query(VIEW + " where c.id = :id")
+    Optional<CourseViewDTO> findViewById(Long id);
+
+    @Query(VIEW + " where c.id in :ids")
+    List<CourseViewDTO> findViewsByIdIn(Collection<Long> ids);
+
+    @Query(VIEW)
+    List<CourseViewDTO> findAllViews();
+
+    @Query(VIEW + FILTER)
+    Slice<CourseViewDTO> findByNameContainsOrCategory_NameContains(String pattern, Pageable pageable);
+
+    @Query("select c.id from Course c" + ID_FILTER)
+    Slice<Long> findIdsByNameContainsOrCategory_NameContains(String pattern, Pageable pageable);
+
+    @Query("select count(c) from Course c" + ID_FILTER)
+    long countByNameContainsOrCategory_NameContains(String pattern);
+
+    @Query(VIEW + " where (:pattern is null or c.id in (select x.id from Course x where x.normalizedName like :pattern) " +
+            "or k.id in (select f.id from Category f where f.normalizedName like :pattern)) " +
+            "and c.name > :lastName order by c.name")
+    Slice<CourseViewDTO> findNextByNameContainsOrCategory_NameContains(String pattern, String lastName, Pageable pageable);
+
+    @Query("select c.name from Course c where c.name in :names")
+    List<String> findNamesByNameIn(Collection<String> names);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW)
+    Stream<CourseViewDTO> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.marcoas.crudCursos.search.IndexedName(c.id, c.name, c.category.id) from Course c")
+    Stream<IndexedName> streamIndexedNames();
+
+    @Query("select new com.marcoas.crudCursos.search.IndexedName(c.id, c.name, c.category.id) from Course c where c.id in :ids")
+    List<IndexedName> findIndexedNamesByIdIn(Collection<Long> ids);
 }
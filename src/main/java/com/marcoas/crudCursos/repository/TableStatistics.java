@@ -0,0 +1,36 @@
+package com.marcoas.crudCursos.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TableStatistics {
+    private static final String MYSQL = "select TABLE_ROWS from information_schema.TABLES where TABLE_SCHEMA = database() and upper(TABLE_NAME) = upper(?)";
+    private static final String H2 = "select ROW_COUNT_ESTIMATE from INFORMATION_SCHEMA.TABLES where TABLE_SCHEMA = CURRENT_SCHEMA and upper(TABLE_NAME) = upper(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String estimateQuery;
+
+    public long estimateRows(String table) {
+        String query = estimateQuery();
+        Long rows = query != null
+                ? jdbcTemplate.queryForObject(query, Long.class, table)
+                : jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+        return rows != null ? rows : 0;
+    }
+
+    private String estimateQuery() {
+        if (estimateQuery == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            estimateQuery = switch (product != null ? product : "") {
+                case "MySQL", "MariaDB" -> MYSQL;
+                case "H2" -> H2;
+                default -> "";
+            };
+        }
+        return estimateQuery.isEmpty() ? null : estimateQuery;
+    }
+}
@@ -0,0 +1,8 @@
+package com.marcoas.crudCursos.search;
+
+public record IndexedName(Long id, String name, Long groupId) {
+
+    public IndexedName(Long id, String name) {
+        this(id, name, null);
+    }
+}
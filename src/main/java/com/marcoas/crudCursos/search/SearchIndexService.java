@@ -0,0 +1,275 @@
+package com.marcoas.crudCursos.search;
+
+import com.marcoas.crudCursos.cache.CacheInvalidation;
+import com.marcoas.crudCursos.cache.CacheInvalidationBus;
+import com.marcoas.crudCursos.model.NormalizedNames;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class SearchIndexService {
+    static final String CACHE_NAME = "search-index";
+    private static final String COURSE = "course";
+    private static final String CATEGORY = "category";
+    private static final int REFRESH_BATCH_SIZE = 500;
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private final CourseRepository courseRepository;
+    private final CategoryRepository categoryRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled = true;
+
+    private final ReentrantLock mutationLock = new ReentrantLock();
+    private volatile Indexes indexes = new Indexes(new TrigramIndex(), new TrigramIndex());
+    private volatile boolean ready;
+    private List<Consumer<Indexes>> journal;
+
+    public SearchIndexService(CourseRepository courseRepository, CategoryRepository categoryRepository,
+                              PlatformTransactionManager transactionManager, CacheInvalidationBus invalidationBus) {
+        this.courseRepository = courseRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionManager = transactionManager;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        mutationLock.lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            mutationLock.unlock();
+        }
+        long start = System.nanoTime();
+        Indexes rebuilt = new Indexes(new TrigramIndex(), new TrigramIndex());
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<IndexedName> categories = categoryRepository.streamIndexedNames()) {
+                    categories.forEach(c -> rebuilt.categories().put(c.id(), normalizeName(c.name()), null));
+                }
+                try (Stream<IndexedName> courses = courseRepository.streamIndexedNames()) {
+                    courses.forEach(c -> rebuilt.courses().put(c.id(), normalizeName(c.name()), c.groupId()));
+                }
+            });
+        } catch (RuntimeException e) {
+            mutationLock.lock();
+            try {
+                journal = null;
+            } finally {
+                mutationLock.unlock();
+            }
+            throw e;
+        }
+        mutationLock.lock();
+        try {
+            journal.forEach(mutation -> mutation.accept(rebuilt));
+            journal = null;
+            indexes = rebuilt;
+            ready = true;
+        } finally {
+            mutationLock.unlock();
+        }
+        log.info("Search index rebuilt with {} categories and {} courses in {} ms",
+                rebuilt.categories().size(), rebuilt.courses().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long[] findCategoryIds(String filter) {
+        if (!canServe(filter)) {
+            return null;
+        }
+        return indexes.categories().search(NormalizedNames.of(filter), List.of());
+    }
+
+    public long[] findCourseIds(String filter) {
+        if (!canServe(filter)) {
+            return null;
+        }
+        Indexes current = indexes;
+        String query = NormalizedNames.of(filter);
+        List<Long> categoryIds = Arrays.stream(current.categories().search(query, List.of())).boxed().toList();
+        return current.courses().search(query, categoryIds);
+    }
+
+    public <T> Page<T> loadPage(long[] ids, Pageable pageable, Function<List<Long>, List<T>> loader, Function<T, Long> idGetter) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.length);
+        }
+        List<T> content = loader.apply(pageIds).stream()
+                .sorted(Comparator.comparing(idGetter))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    public void categorySaved(Long id, String name) {
+        afterCommit(CATEGORY, id, indexes -> indexes.categories().put(id, normalizeName(name), null));
+    }
+
+    public void categoryDeleted(Long id) {
+        afterCommit(CATEGORY, id, indexes -> indexes.categories().remove(id));
+    }
+
+    public void courseSaved(Long id, String name, Long categoryId) {
+        afterCommit(COURSE, id, indexes -> indexes.courses().put(id, normalizeName(name), categoryId));
+    }
+
+    public void courseDeleted(Long id) {
+        afterCommit(COURSE, id, indexes -> indexes.courses().remove(id));
+    }
+
+    private boolean canServe(String filter) {
+        return ready && filter != null && filter.indexOf('%') < 0 && filter.indexOf('_') < 0 && filter.indexOf('\\') < 0;
+    }
+
+    private void afterCommit(String entity, Long id, Consumer<Indexes> mutation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingMutations pending = (PendingMutations) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                pending = new PendingMutations();
+                TransactionSynchronizationManager.bindResource(this, pending);
+                TransactionSynchronizationManager.registerSynchronization(pending);
+            }
+            pending.add(entity, id, mutation);
+        } else {
+            apply(mutation);
+            publish(entity, List.of(id));
+        }
+    }
+
+    private void publish(String entity, Collection<Long> ids) {
+        String key = entity + ":" + ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        invalidationBus.publish(new CacheInvalidation(nodeId, CACHE_NAME, key));
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!enabled || !CACHE_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        try {
+            if (invalidation.isClear()) {
+                rebuild();
+                return;
+            }
+            int separator = invalidation.key().indexOf(':');
+            String entity = invalidation.key().substring(0, separator);
+            List<Long> ids = Arrays.stream(invalidation.key().substring(separator + 1).split(","))
+                    .map(Long::valueOf)
+                    .toList();
+            for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+                refresh(entity, ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size())));
+            }
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("Search index disabled after failing to apply remote change '{}': {}", invalidation.key(), e.getMessage());
+        }
+    }
+
+    private void refresh(String entity, List<Long> ids) {
+        boolean course = COURSE.equals(entity);
+        if (!course && !CATEGORY.equals(entity)) {
+            throw new IllegalArgumentException("Unknown search index entity '" + entity + "'.");
+        }
+        Map<Long, IndexedName> current = (course ? courseRepository.findIndexedNamesByIdIn(ids) : categoryRepository.findIndexedNamesByIdIn(ids))
+                .stream()
+                .collect(Collectors.toMap(IndexedName::id, Function.identity()));
+        apply(indexes -> {
+            TrigramIndex index = course ? indexes.courses() : indexes.categories();
+            for (Long id : ids) {
+                IndexedName name = current.get(id);
+                if (name == null) {
+                    index.remove(id);
+                } else {
+                    index.put(id, normalizeName(name.name()), name.groupId());
+                }
+            }
+        });
+    }
+
+    private void apply(Consumer<Indexes> mutation) {
+        mutationLock.lock();
+        try {
+            mutation.accept(indexes);
+            if (journal != null) {
+                journal.add(mutation);
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+    }
+
+    static String normalizeName(String name) {
+        return name == null ? "" : NormalizedNames.of(name);
+    }
+
+    private record Indexes(TrigramIndex courses, TrigramIndex categories) {
+    }
+
+    private class PendingMutations implements TransactionSynchronization {
+        private final List<Consumer<Indexes>> mutations = new ArrayList<>();
+        private final Map<String, Set<Long>> ids = new LinkedHashMap<>();
+
+        void add(String entity, Long id, Consumer<Indexes> mutation) {
+            mutations.add(mutation);
+            ids.computeIfAbsent(entity, e -> new LinkedHashSet<>()).add(id);
+        }
+
+        @Override
+        public void afterCommit() {
+            mutations.forEach(SearchIndexService.this::apply);
+            ids.forEach(SearchIndexService.this::publish);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexService.this);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.marcoas.crudCursos.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrigramIndex {
+    private static final long NO_GROUP = Long.MIN_VALUE;
+    private static final int MIN_COMPACTION = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docsById = new HashMap<>();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<Long, IntList> groupPostings = new HashMap<>();
+    private long[] ids = new long[MIN_COMPACTION];
+    private long[] groups = new long[MIN_COMPACTION];
+    private String[] texts = new String[MIN_COMPACTION];
+    private int docCount;
+
+    public void put(long id, String text, Long group) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+            addDoc(id, text, group != null ? group : NO_GROUP);
+            if (docCount - docsById.size() > Math.max(MIN_COMPACTION, docsById.size())) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] search(String query, Collection<Long> matchingGroups) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = new BitSet(docCount);
+            if (query.length() < 3) {
+                for (int doc = 0; doc < docCount; doc++) {
+                    if (texts[doc] != null && texts[doc].contains(query)) {
+                        matched.set(doc);
+                    }
+                }
+            } else {
+                for (int doc : candidates(query)) {
+                    if (texts[doc] != null && texts[doc].contains(query)) {
+                        matched.set(doc);
+                    }
+                }
+            }
+            for (Long group : matchingGroups) {
+                IntList docs = groupPostings.get(group);
+                if (docs == null) {
+                    continue;
+                }
+                for (int i = 0; i < docs.size; i++) {
+                    int doc = docs.values[i];
+                    if (texts[doc] != null && groups[doc] == group) {
+                        matched.set(doc);
+                    }
+                }
+            }
+            long[] result = new long[matched.cardinality()];
+            int i = 0;
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                result[i++] = ids[doc];
+            }
+            Arrays.sort(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] candidates(String query) {
+        long[] keys = trigrams(query);
+        IntList[] lists = new IntList[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            lists[i] = postings.get(keys[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists[0].values, lists[0].size);
+        int size = result.length;
+        for (int l = 1; l < lists.length && size > 0 && lists[l].size <= size * 8L; l++) {
+            size = intersect(result, size, lists[l]);
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int intersect(int[] target, int size, IntList other) {
+        int i = 0, j = 0, k = 0;
+        while (i < size && j < other.size) {
+            if (target[i] < other.values[j]) {
+                i++;
+            } else if (target[i] > other.values[j]) {
+                j++;
+            } else {
+                target[k++] = target[i++];
+                j++;
+            }
+        }
+        return k;
+    }
+
+    private void addDoc(long id, String text, long group) {
+        if (docCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            groups = Arrays.copyOf(groups, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+        int doc = docCount++;
+        ids[doc] = id;
+        groups[doc] = group;
+        texts[doc] = text;
+        docsById.put(id, doc);
+        for (long key : trigrams(text)) {
+            postings.computeIfAbsent(key, k -> new IntList()).add(doc);
+        }
+        if (group != NO_GROUP) {
+            groupPostings.computeIfAbsent(group, k -> new IntList()).add(doc);
+        }
+    }
+
+    private void removeDoc(long id) {
+        Integer doc = docsById.remove(id);
+        if (doc != null) {
+            texts[doc] = null;
+        }
+    }
+
+    private void compact() {
+        long[] oldIds = ids;
+        long[] oldGroups = groups;
+        String[] oldTexts = texts;
+        int oldCount = docCount;
+        int capacity = Math.max(MIN_COMPACTION, docsById.size() * 2);
+        ids = new long[capacity];
+        groups = new long[capacity];
+        texts = new String[capacity];
+        docCount = 0;
+        docsById.clear();
+        postings.clear();
+        groupPostings.clear();
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldTexts[doc] != null) {
+                addDoc(oldIds[doc], oldTexts[doc], oldGroups[doc]);
+            }
+        }
+    }
+
+    static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] keys = new long[text.length() - 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class BatchWriter {
+    private final PlatformTransactionManager transactionManager;
+    private final ErrorReporter errorReporter;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int chunkSize = 50;
+    @Value("${app.batch.max-size:1000}")
+    private int maxSize = 1000;
+
+    public void checkSize(List<?> rows) {
+        if (rows == null || rows.isEmpty() || rows.size() > maxSize) {
+            throw new ApiError("Batch must contain between 1 and " + maxSize + " items.");
+        }
+    }
+
+    public <T> void insert(Map<Integer, Supplier<T>> rows, JpaRepository<T, Long> repository, Function<T, Long> idGetter,
+                           Consumer<T> afterSave, BatchItemDTO[] items, String conflictMessage, String errorMessage) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Map.Entry<Integer, Supplier<T>>> entries = new ArrayList<>(rows.entrySet());
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<Map.Entry<Integer, Supplier<T>>> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+            try {
+                List<T> saved = transaction.execute(status -> {
+                    List<T> entities = chunk.stream().map(row -> row.getValue().get()).toList();
+                    repository.saveAllAndFlush(entities);
+                    entities.forEach(afterSave);
+                    return entities;
+                });
+                for (int i = 0; i < chunk.size(); i++) {
+                    int index = chunk.get(i).getKey();
+                    items[index] = BatchItemDTO.created(index, idGetter.apply(saved.get(i)));
+                }
+            } catch (DataIntegrityViolationException e) {
+                for (Map.Entry<Integer, Supplier<T>> row : chunk) {
+                    items[row.getKey()] = insertOne(transaction, row, repository, idGetter, afterSave, conflictMessage, errorMessage);
+                }
+            }
+        }
+    }
+
+    private <T> BatchItemDTO insertOne(TransactionTemplate transaction, Map.Entry<Integer, Supplier<T>> row, JpaRepository<T, Long> repository,
+                                       Function<T, Long> idGetter, Consumer<T> afterSave, String conflictMessage, String errorMessage) {
+        try {
+            T saved = transaction.execute(status -> {
+                T entity = repository.saveAndFlush(row.getValue().get());
+                afterSave.accept(entity);
+                return entity;
+            });
+            return BatchItemDTO.created(row.getKey(), idGetter.apply(saved));
+        } catch (DataIntegrityViolationException e) {
+            return BatchItemDTO.rejected(row.getKey(), BatchStatus.CONFLICT, conflictMessage);
+        } catch (Exception e) {
+            errorReporter.report(errorMessage, e);
+            return BatchItemDTO.rejected(row.getKey(), BatchStatus.FAILED, errorMessage);
+        }
+    }
+}
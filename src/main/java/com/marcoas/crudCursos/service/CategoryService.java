@@ -1,105 +1,256 @@
 package com.marcoas.crudCursos.service;
 
+import com.marcoas.crudCursos.cache.BulkCache;
+import com.marcoas.crudCursos.cache.WriteGenerations;
 import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
 import com.marcoas.crudCursos.dto.CategoryDTO;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.KeysetDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
 import com.marcoas.crudCursos.model.Category;
 import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.search.SearchIndexService;
 import com.marcoas.crudCursos.service.events.CategoryUpdatedEvent;
 import com.marcoas.crudCursos.service.templates.BaseService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class CategoryService implements BaseService<Category, CategoryDTO> {
+public class CategoryService implements BaseService<CategoryViewDTO, CategoryDTO> {
+    private static final Map<String, String> SORTABLE = Map.of("id", "id", "name", "normalizedName");
+
     private final CategoryRepository repository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final SearchIndexService searchIndex;
+    private final BatchWriter batchWriter;
+    private final NdjsonExporter exporter;
+    private final PageTotals pageTotals;
+    private final PageCache pageCache;
+    private final ErrorReporter errorReporter;
     @Transactional
     @Override
-    public Category create(CategoryDTO dto){
+    public CategoryViewDTO create(CategoryDTO dto){
         try {
             if(StringUtils.isBlank(dto.name())) throw new ApiError("Invalid field(s).");
             Category categoria = new Category();
             categoria.setName(dto.name());
-            return repository.save(categoria);
+            categoria = repository.save(categoria);
+            searchIndex.categorySaved(categoria.getId(), categoria.getName());
+            pageCache.evictAfterCommit(cacheManager.getCache("categories-missing"), categoria.getId());
+            pageCache.written(WriteGenerations.CATEGORIES);
+            return CategoryViewDTO.of(categoria);
         } catch (ApiError e){
-            e.printStackTrace();
             throw e;
         } catch (DataIntegrityViolationException e) {
-            e.printStackTrace();
+            errorReporter.report("Error creating category", e);
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error creating category", e);
             throw new ApiError("Error creating category");
         }
     }
-    @CachePut(value = "categories", key = "#id")
+    public BatchResultDTO createBatch(List<CategoryDTO> dtos){
+        try {
+            batchWriter.checkSize(dtos);
+            BatchItemDTO[] items = new BatchItemDTO[dtos.size()];
+            Set<String> names = dtos.stream().filter(Objects::nonNull).map(CategoryDTO::name).filter(StringUtils::isNotBlank).collect(Collectors.toSet());
+            Set<String> existing = names.isEmpty() ? new HashSet<>() : new HashSet<>(repository.findNamesByNameIn(names));
+            Map<Integer, Supplier<Category>> pending = new LinkedHashMap<>();
+            for (int i = 0; i < dtos.size(); i++) {
+                CategoryDTO dto = dtos.get(i);
+                if (dto == null || StringUtils.isBlank(dto.name())) {
+                    items[i] = BatchItemDTO.rejected(i, BatchStatus.INVALID, "Invalid field(s).");
+                } else if (!existing.add(dto.name())) {
+                    items[i] = BatchItemDTO.rejected(i, BatchStatus.CONFLICT, "Category name already exists.");
+                } else {
+                    pending.put(i, () -> new Category(null, dto.name()));
+                }
+            }
+            Cache missing = cacheManager.getCache("categories-missing");
+            batchWriter.insert(pending, repository, Category::getId, categoria -> {
+                        searchIndex.categorySaved(categoria.getId(), categoria.getName());
+                        pageCache.evictAfterCommit(missing, categoria.getId());
+                    }, items, "Category name already exists.", "Error creating category");
+            pageCache.written(WriteGenerations.CATEGORIES);
+            return BatchResultDTO.of(items);
+        } catch (ApiError e){
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error creating categories.", e);
+            throw new ApiError("Error creating categories.");
+        }
+    }
     @Transactional
     @Override
-    public Category update(Long id, CategoryDTO dto){
+    public CategoryViewDTO update(Long id, CategoryDTO dto){
         try {
             if(StringUtils.isBlank(dto.name())) throw new ApiError("Invalid field(s).");
 
-            Category categoria = findById(id);
+            Category categoria = repository.findById(id).orElseThrow(() -> new ApiError("Category not found.", HttpStatusCode.valueOf(404)));
             categoria.setName(dto.name());
             categoria = repository.save(categoria);
+            searchIndex.categorySaved(categoria.getId(), categoria.getName());
+            CategoryViewDTO view = CategoryViewDTO.of(categoria);
+            pageCache.putAfterCommit(cacheManager.getCache("categories"), id, view);
+            pageCache.written(WriteGenerations.CATEGORIES);
             eventPublisher.publishEvent(new CategoryUpdatedEvent(id));
-            return categoria;
+            return view;
         }  catch (ApiError e){
-            e.printStackTrace();
             throw e;
         } catch (DataIntegrityViolationException e) {
-            e.printStackTrace();
+            errorReporter.report("Error updating category.", e);
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error updating category.", e);
             throw new ApiError("Error updating category.");
         }
     }
-    @Cacheable("categories")
+    @Cacheable(value = "categories", sync = true)
     @Override
-    public Category findById(Long id){
+    public CategoryViewDTO findById(Long id){
+        Cache missing = cacheManager.getCache("categories-missing");
+        if (missing.get(id) != null) throw new ApiError("Category not found.", HttpStatusCode.valueOf(404));
         try {
-            return repository.findById(id).orElseThrow(() -> {throw new ApiError("Category not found.", HttpStatusCode.valueOf(404));});
+            return repository.findViewById(id).orElseThrow(() -> {
+                missing.put(id, Boolean.TRUE);
+                throw new ApiError("Category not found.", HttpStatusCode.valueOf(404));
+            });
         } catch (ApiError e){
-            e.printStackTrace();
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error searching category.", e);
             throw new ApiError("Error searching category.");
         }
     }
 
+    public Category getReference(Long id){
+        return repository.getReferenceById(id);
+    }
+
+    public List<CategoryViewDTO> findByIds(List<Long> ids){
+        try {
+            batchWriter.checkSize(ids);
+            List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+            BulkCache cache = BulkCache.of(cacheManager.getCache("categories"));
+            Map<Object, Object> cached = new HashMap<>(cache.getAll(distinct));
+            List<Long> misses = distinct.stream().filter(id -> !cached.containsKey(id)).toList();
+            if (!misses.isEmpty()) {
+                Map<Long, CategoryViewDTO> loaded = repository.findViewsByIdIn(misses).stream()
+                        .collect(Collectors.toMap(CategoryViewDTO::id, Function.identity()));
+                cache.putAll(loaded);
+                cached.putAll(loaded);
+            }
+            List<CategoryViewDTO> categories = new ArrayList<>(distinct.size());
+            for (Long id : distinct) {
+                if (cached.get(id) instanceof CategoryViewDTO category) {
+                    categories.add(category);
+                }
+            }
+            return categories;
+        } catch (ApiError e){
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error searching categories.", e);
+            throw new ApiError("Error searching categories.");
+        }
+    }
+
+    public List<Category> findAllByIds(Collection<Long> ids){
+        try {
+            return ids.isEmpty() ? List.of() : repository.findAllById(ids);
+        } catch (Exception e) {
+            errorReporter.report("Error searching categories.", e);
+            throw new ApiError("Error searching categories.");
+        }
+    }
+
     @Override
-    public List<Category> findAll() {
+    public List<CategoryViewDTO> findAll() {
         try {
-            return repository.findAll();
+            return repository.findAllViews();
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error searching categories.", e);
             throw new ApiError("Error searching categories.");
         }
     }
 
     @Override
-    public Page<Category> findAllPageable(String filter, PaginateDTO paginateSortDTO){
+    public void exportAll(OutputStream outputStream) {
+        try {
+            exporter.export(repository::streamAll, outputStream);
+        } catch (Exception e) {
+            errorReporter.report("Error exporting categories.", e);
+            throw new ApiError("Error exporting categories.");
+        }
+    }
+
+    @Override
+    public Page<CategoryViewDTO> findAllPageable(String filter, PaginateDTO paginateSortDTO){
+        try {
+            PaginateDTO sorted = paginateSortDTO.sortedBy(SORTABLE);
+            if (sorted == null) throw new ApiError("Invalid sort.");
+            String pattern = sorted.pattern(filter);
+            boolean indexed = sorted.matchMode() == MatchMode.CONTAINS && Sort.by("id").equals(sorted.buildPageable().getSort());
+            long[] ids = indexed ? searchIndex.findCategoryIds(filter) : null;
+            if (ids == null) {
+                String version = pageCache.version(WriteGenerations.CATEGORIES);
+                return pageCache.get(cacheManager.getCache("category-pages"), version, pattern, sorted, this::findByIds, CategoryViewDTO::id,
+                        () -> pageTotals.page(cacheManager.getCache("category-totals"), version, "Category", pattern, sorted,
+                                pageable -> repository.findByNameContains(pattern, pageable),
+                                () -> repository.countByNameContains(pattern)));
+            }
+            return searchIndex.loadPage(ids, sorted.buildPageable(), repository::findViewsByIdIn, CategoryViewDTO::id);
+        } catch (ApiError e){
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error searching categories.", e);
+            throw new ApiError("Error searching categories.");
+        }
+    }
+    @Override
+    public SliceDTO<CategoryViewDTO> findAllByCursor(String filter, String cursor, PaginateDTO paginateSortDTO){
         try {
-            return repository.findByNameContains(filter, paginateSortDTO.buildPageable());
+            KeysetDTO keyset = KeysetDTO.decode(cursor);
+            Slice<CategoryViewDTO> slice = repository.findNextByNameContains(paginateSortDTO.pattern(filter), keyset.name(), paginateSortDTO.buildKeysetPageable());
+            return SliceDTO.of(slice, category -> new KeysetDTO(category.name()));
+        } catch (IllegalArgumentException e) {
+            throw new ApiError("Invalid cursor.");
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error searching categories.", e);
             throw new ApiError("Error searching categories.");
         }
     }
@@ -109,11 +260,13 @@ public class CategoryService implements BaseService<Category, CategoryDTO> {
     public void delete(Long id){
         try {
             repository.deleteById(id);
+            searchIndex.categoryDeleted(id);
+            pageCache.written(WriteGenerations.CATEGORIES);
         } catch (DataIntegrityViolationException e) {
-            e.printStackTrace();
+            errorReporter.report("Error deleting category.", e);
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error deleting category.", e);
             throw new ApiError("Error deleting category.");
         }
     }
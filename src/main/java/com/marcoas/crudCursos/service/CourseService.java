@@ -1,111 +1,277 @@
 package com.marcoas.crudCursos.service;
 
+import com.marcoas.crudCursos.cache.BulkCache;
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.WriteGenerations;
 import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
 import com.marcoas.crudCursos.dto.CourseDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.KeysetDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.model.Category;
 import com.marcoas.crudCursos.model.Course;
 import com.marcoas.crudCursos.repository.CourseRepository;
-import com.marcoas.crudCursos.service.events.CategoryUpdatedEvent;
+import com.marcoas.crudCursos.search.SearchIndexService;
 import com.marcoas.crudCursos.service.templates.BaseService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class CourseService implements BaseService<Course, CourseDTO> {
+public class CourseService implements BaseService<CourseViewDTO, CourseDTO> {
+    private static final Map<String, String> SORTABLE = Map.of("id", "id", "name", "normalizedName", "category", "category.id");
+
     private final CourseRepository repository;
     private final CategoryService categoryService;
     private final CacheManager cacheManager;
+    private final CategoryGenerations categoryGenerations;
+    private final SearchIndexService searchIndex;
+    private final BatchWriter batchWriter;
+    private final NdjsonExporter exporter;
+    private final PageTotals pageTotals;
+    private final PageCache pageCache;
+    private final ErrorReporter errorReporter;
     @Transactional
     @Override
-    public Course create(CourseDTO dto){
+    public CourseViewDTO create(CourseDTO dto){
         try {
             if(StringUtils.isBlank(dto.name()) || Objects.isNull(dto.categoryId())) throw new ApiError("Invalid field(s).");
+            CategoryViewDTO category = categoryService.findById(dto.categoryId());
             Course course = new Course();
             course.setName(dto.name());
-            course.setCategory(categoryService.findById(dto.categoryId()));
-            return repository.save(course);
+            course.setCategory(categoryService.getReference(category.id()));
+            course = repository.save(course);
+            searchIndex.courseSaved(course.getId(), course.getName(), category.id());
+            pageCache.evictAfterCommit(cacheManager.getCache("courses-missing"), course.getId());
+            pageCache.written(WriteGenerations.COURSES);
+            return new CourseViewDTO(course.getId(), course.getName(), category);
         } catch (ApiError e){
-            e.printStackTrace();
             throw e;
         } catch (DataIntegrityViolationException e) {
-            e.printStackTrace();
+            errorReporter.report("Error creating course.", e);
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error creating course.", e);
             throw new ApiError("Error creating course.");
         }
     }
-    @CachePut(value = "courses", key = "#id")
+    public BatchResultDTO createBatch(List<CourseDTO> dtos){
+        try {
+            batchWriter.checkSize(dtos);
+            BatchItemDTO[] items = new BatchItemDTO[dtos.size()];
+            Set<Long> categoryIds = dtos.stream().filter(Objects::nonNull).map(CourseDTO::categoryId).filter(Objects::nonNull).collect(Collectors.toSet());
+            Map<Long, Category> categories = categoryService.findAllByIds(categoryIds).stream().collect(Collectors.toMap(Category::getId, Function.identity()));
+            Set<String> names = dtos.stream().filter(Objects::nonNull).map(CourseDTO::name).filter(StringUtils::isNotBlank).collect(Collectors.toSet());
+            Set<String> existing = names.isEmpty() ? new HashSet<>() : new HashSet<>(repository.findNamesByNameIn(names));
+            Map<Integer, Supplier<Course>> pending = new LinkedHashMap<>();
+            for (int i = 0; i < dtos.size(); i++) {
+                CourseDTO dto = dtos.get(i);
+                if (dto == null || StringUtils.isBlank(dto.name()) || Objects.isNull(dto.categoryId())) {
+                    items[i] = BatchItemDTO.rejected(i, BatchStatus.INVALID, "Invalid field(s).");
+                } else if (!categories.containsKey(dto.categoryId())) {
+                    items[i] = BatchItemDTO.rejected(i, BatchStatus.INVALID, "Category not found.");
+                } else if (!existing.add(dto.name())) {
+                    items[i] = BatchItemDTO.rejected(i, BatchStatus.CONFLICT, "Course name already exists.");
+                } else {
+                    Category category = categories.get(dto.categoryId());
+                    pending.put(i, () -> new Course(null, dto.name(), category));
+                }
+            }
+            Cache missing = cacheManager.getCache("courses-missing");
+            batchWriter.insert(pending, repository, Course::getId, course -> {
+                        searchIndex.courseSaved(course.getId(), course.getName(), course.getCategory().getId());
+                        pageCache.evictAfterCommit(missing, course.getId());
+                    }, items, "Course name already exists.", "Error creating course.");
+            pageCache.written(WriteGenerations.COURSES);
+            return BatchResultDTO.of(items);
+        } catch (ApiError e){
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error creating courses.", e);
+            throw new ApiError("Error creating courses.");
+        }
+    }
     @Transactional
     @Override
-    public Course update(Long id, CourseDTO dto){
+    public CourseViewDTO update(Long id, CourseDTO dto){
         try {
             if(StringUtils.isBlank(dto.name()) || Objects.isNull(dto.categoryId())) throw new ApiError("Invalid field(s).");
 
-            Course course = findById(id);
+            Course course = repository.findById(id).orElseThrow(() -> new ApiError("Course not found.", HttpStatusCode.valueOf(404)));
+            long generation = categoryGenerations.current(dto.categoryId());
+            CategoryViewDTO category = categoryService.findById(dto.categoryId());
             course.setName(dto.name());
-            course.setCategory(categoryService.findById(dto.categoryId()));
-            return repository.save(course);
+            course.setCategory(categoryService.getReference(category.id()));
+            course = repository.save(course);
+            searchIndex.courseSaved(course.getId(), course.getName(), category.id());
+            CourseViewDTO view = new CourseViewDTO(course.getId(), course.getName(), category);
+            pageCache.putAfterCommit(cacheManager.getCache("courses"), id, new CachedCourse(generation, view));
+            pageCache.written(WriteGenerations.COURSES);
+            return view;
         } catch (ApiError e){
-            e.printStackTrace();
             throw e;
         } catch (DataIntegrityViolationException e) {
-            e.printStackTrace();
+            errorReporter.report("Error updating course.", e);
             throw e;
         }  catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error updating course.", e);
             throw new ApiError("Error updating course.");
         }
     }
-    @EventListener
-    public void handleCategoryUpdatedEvent(CategoryUpdatedEvent event) {
-        List<Course> courses = repository.findByCategory_Id(event.getCategoryId());
-        courses.forEach(course -> cacheManager.getCache("courses").evict(course.getId()));
-    }
-    @Cacheable("courses")
     @Override
-    public Course findById(Long id){
+    public CourseViewDTO findById(Long id){
         try {
-            return repository.findById(id).orElseThrow(() -> {throw new ApiError("Course not found.", HttpStatusCode.valueOf(404));});
+            return cacheManager.getCache("courses").get(id, () -> loadCourse(id)).course();
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof ApiError apiError) {
+                throw apiError;
+            }
+            errorReporter.report("Error searching course.", e);
+            throw new ApiError("Error searching course.");
         } catch (ApiError e){
-            e.printStackTrace();
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error searching course.", e);
             throw new ApiError("Error searching course.");
         }
     }
+    public List<CourseViewDTO> findByIds(List<Long> ids){
+        try {
+            batchWriter.checkSize(ids);
+            List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+            BulkCache cache = BulkCache.of(cacheManager.getCache("courses"));
+            Map<Object, Object> cached = new HashMap<>(cache.getAll(distinct));
+            List<Long> misses = distinct.stream().filter(id -> !cached.containsKey(id)).toList();
+            if (!misses.isEmpty()) {
+                Map<Long, Long> categoryIds = new HashMap<>();
+                repository.findCategoryIdsByIdIn(misses).forEach(row -> categoryIds.put((Long) row[0], (Long) row[1]));
+                Map<Long, Long> generations = new HashMap<>();
+                categoryIds.values().forEach(categoryId -> generations.computeIfAbsent(categoryId, categoryGenerations::current));
+                Map<Long, CachedCourse> loaded = new LinkedHashMap<>();
+                for (CourseViewDTO course : repository.findViewsByIdIn(misses)) {
+                    boolean sameCategory = course.category().id().equals(categoryIds.get(course.id()));
+                    loaded.put(course.id(), new CachedCourse(sameCategory ? generations.get(course.category().id()) : CachedCourse.NEVER_CURRENT, course));
+                }
+                cache.putAll(loaded);
+                cached.putAll(loaded);
+            }
+            List<CourseViewDTO> courses = new ArrayList<>(distinct.size());
+            for (Long id : distinct) {
+                if (cached.get(id) instanceof CachedCourse course) {
+                    courses.add(course.course());
+                }
+            }
+            return courses;
+        } catch (ApiError e){
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error searching courses.", e);
+            throw new ApiError("Error searching courses.");
+        }
+    }
+    private CachedCourse loadCourse(Long id) {
+        Cache missing = cacheManager.getCache("courses-missing");
+        if (missing.get(id) != null) throw new ApiError("Course not found.", HttpStatusCode.valueOf(404));
+        Long categoryId = repository.findCategoryIdById(id).orElseThrow(() -> courseNotFound(missing, id));
+        long generation = categoryGenerations.current(categoryId);
+        CourseViewDTO course = repository.findViewById(id).orElseThrow(() -> courseNotFound(missing, id));
+        return new CachedCourse(categoryId.equals(course.category().id()) ? generation : CachedCourse.NEVER_CURRENT, course);
+    }
+
+    private static ApiError courseNotFound(Cache missing, Long id) {
+        missing.put(id, Boolean.TRUE);
+        return new ApiError("Course not found.", HttpStatusCode.valueOf(404));
+    }
 
     @Override
-    public List<Course> findAll() {
+    public List<CourseViewDTO> findAll() {
         try {
-            return repository.findAll();
+            return repository.findAllViews();
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error searching courses.", e);
             throw new ApiError("Error searching courses.");
         }
     }
 
     @Override
-    public Page<Course> findAllPageable(String filter, PaginateDTO paginateSortDTO){
+    public void exportAll(OutputStream outputStream) {
+        try {
+            exporter.export(repository::streamAll, outputStream);
+        } catch (Exception e) {
+            errorReporter.report("Error exporting courses.", e);
+            throw new ApiError("Error exporting courses.");
+        }
+    }
+
+    @Override
+    public Page<CourseViewDTO> findAllPageable(String filter, PaginateDTO paginateSortDTO){
+        try {
+            PaginateDTO sorted = paginateSortDTO.sortedBy(SORTABLE);
+            if (sorted == null) throw new ApiError("Invalid sort.");
+            String pattern = sorted.pattern(filter);
+            boolean indexed = sorted.matchMode() == MatchMode.CONTAINS && Sort.by("id").equals(sorted.buildPageable().getSort());
+            long[] ids = indexed ? searchIndex.findCourseIds(filter) : null;
+            if (ids == null) {
+                String version = pageCache.version(WriteGenerations.COURSES, WriteGenerations.CATEGORIES);
+                return pageCache.get(cacheManager.getCache("course-pages"), version, pattern, sorted, this::findByIds, CourseViewDTO::id,
+                        () -> pageTotals.page(cacheManager.getCache("course-totals"), version, "Course", pattern, sorted,
+                                pageable -> loadViews(repository.findIdsByNameContainsOrCategory_NameContains(pattern, pageable)),
+                                () -> repository.countByNameContainsOrCategory_NameContains(pattern)));
+            }
+            return searchIndex.loadPage(ids, sorted.buildPageable(), repository::findViewsByIdIn, CourseViewDTO::id);
+        } catch (ApiError e){
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error searching course.", e);
+            throw new ApiError("Error searching course.");
+        }
+    }
+    private Slice<CourseViewDTO> loadViews(Slice<Long> ids) {
+        Map<Long, CourseViewDTO> found = ids.isEmpty() ? Map.of()
+                : repository.findViewsByIdIn(ids.getContent()).stream().collect(Collectors.toMap(CourseViewDTO::id, Function.identity()));
+        return new SliceImpl<>(ids.stream().map(found::get).filter(Objects::nonNull).toList(), ids.getPageable(), ids.hasNext());
+    }
+    @Override
+    public SliceDTO<CourseViewDTO> findAllByCursor(String filter, String cursor, PaginateDTO paginateSortDTO){
         try {
-            return repository.findByNameContainsOrCategory_NameContains(filter, paginateSortDTO.buildPageable());
+            KeysetDTO keyset = KeysetDTO.decode(cursor);
+            Slice<CourseViewDTO> slice = repository.findNextByNameContainsOrCategory_NameContains(paginateSortDTO.pattern(filter), keyset.name(), paginateSortDTO.buildKeysetPageable());
+            return SliceDTO.of(slice, course -> new KeysetDTO(course.name()));
+        } catch (IllegalArgumentException e) {
+            throw new ApiError("Invalid cursor.");
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error searching course.", e);
             throw new ApiError("Error searching course.");
         }
     }
@@ -115,11 +281,13 @@ public class CourseService implements BaseService<Course, CourseDTO> {
     public void delete(Long id){
         try {
             repository.deleteById(id);
+            searchIndex.courseDeleted(id);
+            pageCache.written(WriteGenerations.COURSES);
         } catch (DataIntegrityViolationException e) {
-            e.printStackTrace();
+            errorReporter.report("Error deleting course.", e);
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            errorReporter.report("Error deleting course.", e);
             throw new ApiError("Error deleting course.");
         }
     }
@@ -0,0 +1,92 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ErrorReporter {
+    private static final Logger log = LoggerFactory.getLogger(ErrorReporter.class);
+
+    private final int samplesPerWindow;
+    private final long windowNanos;
+    private final ThreadPoolExecutor executor;
+    private final Map<Class<?>, Sampler> samplers = new ConcurrentHashMap<>();
+    private final LongAdder expected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public ErrorReporter(@Value("${app.errors.log.samples-per-window:10}") int samplesPerWindow,
+                         @Value("${app.errors.log.window:1m}") Duration window,
+                         @Value("${app.errors.log.queue-capacity:1000}") int queueCapacity) {
+        this.samplesPerWindow = samplesPerWindow;
+        this.windowNanos = window.toNanos();
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("error-log-"), (task, executor) -> dropped.increment());
+    }
+
+    public void report(String context, Throwable error) {
+        if (error instanceof ApiError) {
+            expected.increment();
+            return;
+        }
+        Sampler sampler = samplers.computeIfAbsent(error.getClass(), type -> new Sampler());
+        sampler.count.increment();
+        if (!sampler.tryAcquire(System.nanoTime())) {
+            sampler.suppressed.increment();
+            return;
+        }
+        long suppressed = sampler.suppressed.sumThenReset();
+        executor.execute(() -> log.error("context=\"{}\" type={} message=\"{}\" suppressed={}",
+                context, error.getClass().getName(), error.getMessage(), suppressed, error));
+    }
+
+    public long getExpected() {
+        return expected.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        samplers.forEach((type, sampler) -> counts.put(type.getName(), sampler.count.sum()));
+        return counts;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private class Sampler {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+        private final AtomicInteger logged = new AtomicInteger();
+
+        private boolean tryAcquire(long now) {
+            long start = windowStart.get();
+            if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+                logged.set(0);
+            }
+            return logged.incrementAndGet() <= samplesPerWindow;
+        }
+    }
+}
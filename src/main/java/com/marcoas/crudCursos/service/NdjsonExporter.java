@@ -0,0 +1,57 @@
+package com.marcoas.crudCursos.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Component
+public class NdjsonExporter {
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    @Value("${app.export.flush-interval:500}")
+    private int flushInterval = 500;
+
+    public NdjsonExporter(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> long export(Supplier<Stream<T>> query, OutputStream outputStream) {
+        Long written = transaction.execute(status -> {
+            try (Stream<T> rows = query.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                long count = 0;
+                Iterator<T> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                    if (++count % flushInterval == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return written != null ? written : 0;
+    }
+}
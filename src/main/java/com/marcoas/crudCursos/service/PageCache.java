@@ -0,0 +1,86 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.cache.CachedPage;
+import com.marcoas.crudCursos.cache.WriteGenerations;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class PageCache {
+    private final WriteGenerations writeGenerations;
+    private final int maxPageSize;
+
+    public PageCache(WriteGenerations writeGenerations, @Value("${app.cache.pages.max-page-size:100}") int maxPageSize) {
+        this.writeGenerations = writeGenerations;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public String version(String... entities) {
+        StringBuilder version = new StringBuilder();
+        for (String entity : entities) {
+            if (!version.isEmpty()) {
+                version.append('.');
+            }
+            version.append(writeGenerations.current(entity));
+        }
+        return version.toString();
+    }
+
+    public void written(String entity) {
+        afterCommit(() -> writeGenerations.bump(entity));
+    }
+
+    public void evictAfterCommit(Cache cache, Object key) {
+        afterCommit(() -> cache.evict(key));
+    }
+
+    public void putAfterCommit(Cache cache, Object key, Object value) {
+        afterCommit(() -> cache.put(key, value));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public <T> Page<T> get(Cache pages, String version, String pattern, PaginateDTO paginateDTO,
+                           Function<List<Long>, List<T>> hydrate, Function<T, Long> idGetter, Supplier<Page<T>> loader) {
+        Pageable pageable = paginateDTO.buildPageable();
+        if (pageable.getPageSize() > maxPageSize) {
+            return loader.get();
+        }
+        String key = version + ":" + paginateDTO.totalMode() + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize()
+                + ":" + pageable.getSort() + ":" + PageTotals.patternKey(pattern);
+        CachedPage cached = pages.get(key, CachedPage.class);
+        if (cached != null) {
+            List<Long> ids = Arrays.stream(cached.ids()).boxed().toList();
+            List<T> content = ids.isEmpty() ? List.of() : hydrate.apply(ids);
+            if (content.size() == ids.size()) {
+                return new PageImpl<>(content, pageable, cached.total());
+            }
+        }
+        Page<T> page = loader.get();
+        pages.put(key, new CachedPage(page.getContent().stream().mapToLong(idGetter::apply).toArray(), page.getTotalElements()));
+        return page;
+    }
+}
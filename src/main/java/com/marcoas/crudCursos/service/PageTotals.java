@@ -0,0 +1,50 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.repository.TableStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+@Component
+@RequiredArgsConstructor
+public class PageTotals {
+    private final TableStatistics tableStatistics;
+
+    public <T> Page<T> page(Cache totals, String version, String table, String pattern, PaginateDTO paginateDTO,
+                            Function<Pageable, Slice<T>> query, LongSupplier count) {
+        Pageable pageable = paginateDTO.buildPageable();
+        Slice<T> slice = query.apply(pageable);
+        List<T> content = slice.getContent();
+        long seen = pageable.getOffset() + content.size();
+        if (!slice.hasNext() && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(content, pageable, seen);
+        }
+        long total = switch (paginateDTO.totalMode()) {
+            case EXACT -> count.getAsLong();
+            case CACHED -> cached(totals, version, pattern, count);
+            case ESTIMATED -> pattern == null
+                    ? Math.max(tableStatistics.estimateRows(table), seen + (slice.hasNext() ? 1 : 0))
+                    : cached(totals, version, pattern, count);
+            case NONE -> seen + (slice.hasNext() ? 1 : 0);
+        };
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static long cached(Cache totals, String version, String pattern, LongSupplier count) {
+        Long total = totals.get(version + ":" + patternKey(pattern), count::getAsLong);
+        return total != null ? total : count.getAsLong();
+    }
+
+    static String patternKey(String pattern) {
+        return pattern != null ? pattern : "";
+    }
+}
@@ -0,0 +1,70 @@
+package com.marcoas.crudCursos.service;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class ServiceTimingInterceptor implements MethodInterceptor {
+    public static final String METRIC_NAME = "crudcursos.service";
+
+    private final Supplier<MeterRegistry> registrySupplier;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Method, Map<Class<?>, Timer>> errorTimers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public ServiceTimingInterceptor(Supplier<MeterRegistry> registrySupplier) {
+        this.registrySupplier = registrySupplier;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = registry();
+        Clock clock = registry.config().clock();
+        long start = clock.monotonicTime();
+        try {
+            Object result = invocation.proceed();
+            Timer timer = timers.get(invocation.getMethod());
+            if (timer == null) {
+                timer = timers.computeIfAbsent(invocation.getMethod(), method -> timer(registry, invocation, "none"));
+            }
+            timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            Map<Class<?>, Timer> byException = errorTimers.computeIfAbsent(invocation.getMethod(), method -> new ConcurrentHashMap<>());
+            Timer timer = byException.get(e.getClass());
+            if (timer == null) {
+                timer = byException.computeIfAbsent(e.getClass(), type -> timer(registry, invocation, type.getSimpleName()));
+            }
+            timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry current = registry;
+        if (current == null) {
+            current = registrySupplier.get();
+            registry = current;
+        }
+        return current;
+    }
+
+    private static Timer timer(MeterRegistry registry, MethodInvocation invocation, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", AopUtils.getTargetClass(invocation.getThis()).getSimpleName())
+                .tag("method", invocation.getMethod().getName())
+                .tag("exception", exception)
+                .description("Time spent in service methods")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
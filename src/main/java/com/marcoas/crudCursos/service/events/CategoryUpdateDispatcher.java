@@ -0,0 +1,109 @@
+package com.marcoas.crudCursos.service.events;
+
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class CategoryUpdateDispatcher {
+    private final CategoryGenerations categoryGenerations;
+    private final ErrorReporter errorReporter;
+    private final long coalesceWindowNanos;
+    private final long retryDelayNanos;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Timer lag;
+    private final Counter coalesced;
+    private final DistributionSummary batchSize;
+
+    public CategoryUpdateDispatcher(CategoryGenerations categoryGenerations, ErrorReporter errorReporter, MeterRegistry registry,
+                                    @Value("${app.events.category.coalesce-window:50ms}") Duration coalesceWindow,
+                                    @Value("${app.events.category.retry-delay:1s}") Duration retryDelay) {
+        this.categoryGenerations = categoryGenerations;
+        this.errorReporter = errorReporter;
+        this.coalesceWindowNanos = coalesceWindow.toNanos();
+        this.retryDelayNanos = retryDelay.toNanos();
+        this.executor = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("category-events-"));
+        this.lag = Timer.builder("crudcursos.events.category.lag")
+                .description("Time from publishing a category update to invalidating its cached courses")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.coalesced = Counter.builder("crudcursos.events.category.coalesced")
+                .description("Category updates merged into an invalidation already pending")
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("crudcursos.events.category.batch.size")
+                .description("Categories invalidated per Redis pipeline")
+                .register(registry);
+        Gauge.builder("crudcursos.events.category.pending", pending, Map::size)
+                .description("Categories waiting to be invalidated")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryUpdated(CategoryUpdatedEvent event) {
+        if (pending.putIfAbsent(event.getCategoryId(), event.getPublishedAt()) != null) {
+            pending.merge(event.getCategoryId(), event.getPublishedAt(), Math::min);
+            coalesced.increment();
+        }
+        schedule(coalesceWindowNanos);
+    }
+
+    public int getPending() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void schedule(long delayNanos) {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        Map<Long, Long> batch = new HashMap<>();
+        for (Long categoryId : pending.keySet()) {
+            Long publishedAt = pending.remove(categoryId);
+            if (publishedAt != null) {
+                batch.put(categoryId, publishedAt);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            categoryGenerations.bumpAll(batch.keySet());
+        } catch (Exception e) {
+            errorReporter.report("Error invalidating courses of updated categories.", e);
+            batch.forEach((categoryId, publishedAt) -> pending.merge(categoryId, publishedAt, Math::min));
+            schedule(retryDelayNanos);
+            return;
+        }
+        long now = System.nanoTime();
+        batchSize.record(batch.size());
+        batch.values().forEach(publishedAt -> lag.record(now - publishedAt, TimeUnit.NANOSECONDS));
+    }
+}
@@ -2,12 +2,18 @@ package com.marcoas.crudCursos.service.events;
 
 public class CategoryUpdatedEvent {
     private Long categoryId;
+    private long publishedAt;
 
     public CategoryUpdatedEvent(Long categoryId) {
         this.categoryId = categoryId;
+        this.publishedAt = System.nanoTime();
     }
 
     public Long getCategoryId() {
         return categoryId;
     }
+
+    public long getPublishedAt() {
+        return publishedAt;
+    }
 }
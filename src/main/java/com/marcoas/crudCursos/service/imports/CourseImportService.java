@@ -0,0 +1,313 @@
+package com.marcoas.crudCursos.service.imports;
+
+import com.marcoas.crudCursos.cache.WriteGenerations;
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
+import com.marcoas.crudCursos.dto.CourseDTO;
+import com.marcoas.crudCursos.dto.ImportJobDTO;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import com.marcoas.crudCursos.service.BatchWriter;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import com.marcoas.crudCursos.service.PageCache;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+public class CourseImportService {
+    private final CourseRepository courseRepository;
+    private final CategoryRepository categoryRepository;
+    private final BatchWriter batchWriter;
+    private final SearchIndexService searchIndex;
+    private final PageCache pageCache;
+    private final CacheManager cacheManager;
+    private final ErrorReporter errorReporter;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int window;
+    private final int maxErrors;
+    private final Duration retention;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService validationExecutor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public CourseImportService(CourseRepository courseRepository, CategoryRepository categoryRepository, BatchWriter batchWriter,
+                               SearchIndexService searchIndex, PageCache pageCache, CacheManager cacheManager,
+                               ErrorReporter errorReporter, Validator validator,
+                               @Value("${app.import.chunk-size:1000}") int chunkSize,
+                               @Value("${app.import.window:4}") int window,
+                               @Value("${app.import.max-errors:1000}") int maxErrors,
+                               @Value("${app.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                               @Value("${app.import.validation-threads:0}") int validationThreads,
+                               @Value("${app.import.retention:1h}") Duration retention,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.courseRepository = courseRepository;
+        this.categoryRepository = categoryRepository;
+        this.batchWriter = batchWriter;
+        this.searchIndex = searchIndex;
+        this.pageCache = pageCache;
+        this.cacheManager = cacheManager;
+        this.errorReporter = errorReporter;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.window = window;
+        this.maxErrors = maxErrors;
+        this.retention = retention;
+        this.jobExecutor = Executors.newFixedThreadPool(maxConcurrentJobs, virtualThreads
+                ? Thread.ofVirtual().name("course-import-", 1).factory()
+                : new CustomizableThreadFactory("course-import-"));
+        this.validationExecutor = Executors.newFixedThreadPool(validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors(),
+                new CustomizableThreadFactory("course-import-validation-"));
+    }
+
+    public ImportJobDTO start(MultipartFile file) {
+        Path path = null;
+        BufferedReader reader = null;
+        try {
+            if (file == null || file.isEmpty()) throw new ApiError("Invalid file.");
+            path = Files.createTempFile("course-import-", ".csv");
+            file.transferTo(path);
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), Files.size(path), maxErrors);
+            reader = new BufferedReader(new InputStreamReader(new CountingInputStream(Files.newInputStream(path), job.getBytesRead()), StandardCharsets.UTF_8));
+            int[] columns = readHeader(reader.readLine());
+            jobs.values().removeIf(finished -> finished.isFinishedBefore(Instant.now().minus(retention)));
+            jobs.put(job.getId(), job);
+            BufferedReader jobReader = reader;
+            Path jobPath = path;
+            jobExecutor.execute(() -> run(job, jobReader, jobPath, columns));
+            return job.toDTO();
+        } catch (ApiError e) {
+            cleanUp(reader, path);
+            throw e;
+        } catch (Exception e) {
+            errorReporter.report("Error importing courses.", e);
+            cleanUp(reader, path);
+            throw new ApiError("Error importing courses.");
+        }
+    }
+
+    public ImportJobDTO findJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) throw new ApiError("Import not found.", HttpStatusCode.valueOf(404));
+        return job.toDTO();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        validationExecutor.shutdownNow();
+    }
+
+    private int[] readHeader(String header) {
+        List<String> names;
+        try {
+            names = header == null ? List.of() : CsvParser.parseLine(header.replace("\uFEFF", "")).stream()
+                    .map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        } catch (IllegalArgumentException e) {
+            names = List.of();
+        }
+        int name = names.indexOf("name");
+        int category = names.indexOf("category");
+        if (name < 0 || category < 0) throw new ApiError("Invalid header, expected columns: name,category.");
+        return new int[]{name, category};
+    }
+
+    private void run(ImportJob job, BufferedReader reader, Path path, int[] columns) {
+        Deque<CompletableFuture<ValidatedChunk>> inFlight = new ArrayDeque<>();
+        try (reader) {
+            long lineNumber = 1;
+            List<ImportLine> lines = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                job.lineRead();
+                lines.add(new ImportLine(lineNumber, line));
+                if (lines.size() == chunkSize) {
+                    submit(job, lines, columns, inFlight);
+                    lines = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(job, lines, columns, inFlight);
+            }
+            while (!inFlight.isEmpty()) {
+                write(job, inFlight.removeFirst().join());
+            }
+            job.complete();
+        } catch (Exception e) {
+            errorReporter.report("Error importing courses.", e);
+            inFlight.forEach(chunk -> chunk.cancel(true));
+            job.fail("Error importing courses.");
+        } finally {
+            cleanUp(null, path);
+        }
+    }
+
+    private void submit(ImportJob job, List<ImportLine> lines, int[] columns, Deque<CompletableFuture<ValidatedChunk>> inFlight) {
+        while (inFlight.size() >= window) {
+            write(job, inFlight.removeFirst().join());
+        }
+        inFlight.addLast(CompletableFuture.supplyAsync(() -> validate(job, lines, columns), validationExecutor));
+    }
+
+    private ValidatedChunk validate(ImportJob job, List<ImportLine> lines, int[] columns) {
+        Map<Integer, String> errors = new LinkedHashMap<>();
+        List<List<String>> rows = new ArrayList<>(lines.size());
+        for (ImportLine line : lines) {
+            try {
+                rows.add(CsvParser.parseLine(line.text()));
+            } catch (IllegalArgumentException e) {
+                errors.put(rows.size(), e.getMessage());
+                rows.add(List.of());
+            }
+        }
+        int width = Math.max(columns[0], columns[1]) + 1;
+        Map<String, Category> categories = resolveCategories(job, rows.stream().filter(row -> row.size() >= width)
+                .map(row -> row.get(columns[1])).filter(StringUtils::isNotBlank).collect(Collectors.toSet()));
+        Set<String> names = rows.stream().filter(row -> row.size() >= width).map(row -> row.get(columns[0]))
+                .filter(StringUtils::isNotBlank).collect(Collectors.toSet());
+        Set<String> existing = names.isEmpty() ? new HashSet<>() : new HashSet<>(courseRepository.findNamesByNameIn(names));
+        Map<Integer, Supplier<Course>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> row = rows.get(i);
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            if (row.size() < width) {
+                errors.put(i, "Invalid number of columns.");
+                continue;
+            }
+            String name = row.get(columns[0]);
+            String categoryName = row.get(columns[1]);
+            Category category = categories.get(categoryName);
+            if (StringUtils.isNotBlank(categoryName) && category == null) {
+                errors.put(i, "Category not found.");
+                continue;
+            }
+            Set<ConstraintViolation<CourseDTO>> violations = validator.validate(new CourseDTO(name, category != null ? category.getId() : null));
+            if (!violations.isEmpty()) {
+                errors.put(i, violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" ")));
+            } else if (!existing.add(name)) {
+                errors.put(i, "Course name already exists.");
+            } else {
+                pending.put(i, () -> new Course(null, name, category));
+            }
+        }
+        return new ValidatedChunk(lines, pending, errors);
+    }
+
+    private Map<String, Category> resolveCategories(ImportJob job, Set<String> names) {
+        Map<String, Optional<Category>> cache = job.getCategories();
+        Set<String> missing = names.stream().filter(name -> !cache.containsKey(name)).collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            Map<String, Category> found = categoryRepository.findByNameIn(missing).stream()
+                    .collect(Collectors.toMap(Category::getName, Function.identity(), (a, b) -> a));
+            missing.forEach(name -> cache.putIfAbsent(name, Optional.ofNullable(found.get(name))));
+        }
+        Map<String, Category> categories = new LinkedHashMap<>();
+        names.forEach(name -> cache.get(name).ifPresent(category -> categories.put(name, category)));
+        return categories;
+    }
+
+    private void write(ImportJob job, ValidatedChunk chunk) {
+        BatchItemDTO[] items = new BatchItemDTO[chunk.lines().size()];
+        Cache missing = cacheManager.getCache("courses-missing");
+        batchWriter.insert(chunk.pending(), courseRepository, Course::getId, course -> {
+                    searchIndex.courseSaved(course.getId(), course.getName(), course.getCategory().getId());
+                    pageCache.evictAfterCommit(missing, course.getId());
+                }, items, "Course name already exists.", "Error creating course.");
+        pageCache.written(WriteGenerations.COURSES);
+        for (int i = 0; i < items.length; i++) {
+            long lineNumber = chunk.lines().get(i).number();
+            if (chunk.errors().containsKey(i)) {
+                job.reject(lineNumber, chunk.errors().get(i));
+            } else if (items[i] != null && items[i].status() == BatchStatus.CREATED) {
+                job.imported();
+            } else if (items[i] != null) {
+                job.reject(lineNumber, items[i].message());
+            }
+        }
+    }
+
+    private void cleanUp(BufferedReader reader, Path path) {
+        try {
+            if (reader != null) reader.close();
+            if (path != null) Files.deleteIfExists(path);
+        } catch (IOException e) {
+            errorReporter.report("Error removing import upload.", e);
+        }
+    }
+
+    private record ImportLine(long number, String text) {
+    }
+
+    private record ValidatedChunk(List<ImportLine> lines, Map<Integer, Supplier<Course>> pending, Map<Integer, String> errors) {
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count.incrementAndGet();
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count.addAndGet(n);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.marcoas.crudCursos.service.imports;
+
+import com.marcoas.crudCursos.dto.ImportErrorDTO;
+import com.marcoas.crudCursos.dto.ImportJobDTO;
+import com.marcoas.crudCursos.dto.ImportStatus;
+import com.marcoas.crudCursos.model.Category;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ImportJob {
+    private final String id;
+    private final long totalBytes;
+    private final int maxErrors;
+    private final Instant startedAt = Instant.now();
+    private final List<ImportErrorDTO> errors = new ArrayList<>();
+    private final Map<String, Optional<Category>> categories = new ConcurrentHashMap<>();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile ImportStatus status = ImportStatus.RUNNING;
+    private volatile String message;
+    private volatile Instant finishedAt;
+
+    ImportJob(String id, long totalBytes, int maxErrors) {
+        this.id = id;
+        this.totalBytes = totalBytes;
+        this.maxErrors = maxErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Map<String, Optional<Category>> getCategories() {
+        return categories;
+    }
+
+    AtomicLong getBytesRead() {
+        return bytesRead;
+    }
+
+    void lineRead() {
+        linesRead.incrementAndGet();
+    }
+
+    void imported() {
+        imported.incrementAndGet();
+    }
+
+    void reject(long line, String error) {
+        rejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportErrorDTO(line, error));
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void fail(String error) {
+        finishedAt = Instant.now();
+        message = error;
+        status = ImportStatus.FAILED;
+    }
+
+    boolean isFinishedBefore(Instant instant) {
+        Instant finished = finishedAt;
+        return finished != null && finished.isBefore(instant);
+    }
+
+    ImportJobDTO toDTO() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Math.max(Duration.between(startedAt, end).toMillis(), 1) / 1000.0;
+        double progress = status == ImportStatus.COMPLETED || totalBytes == 0 ? 1.0 : Math.min(1.0, (double) bytesRead.get() / totalBytes);
+        List<ImportErrorDTO> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = List.copyOf(errors);
+        }
+        return new ImportJobDTO(id, status, message, linesRead.get(), imported.get(), rejected.get(), progress,
+                imported.get() / seconds, startedAt, finishedAt, errorsCopy);
+    }
+}
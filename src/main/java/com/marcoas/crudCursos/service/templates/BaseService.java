@@ -1,8 +1,10 @@
 package com.marcoas.crudCursos.service.templates;
 
 import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
 import org.springframework.data.domain.Page;
 
+import java.io.OutputStream;
 import java.util.List;
 
 public interface BaseService<T, DTO> {
@@ -10,6 +12,8 @@ public interface BaseService<T, DTO> {
     T update(Long id, DTO dto);
     T findById(Long id);
     List<T> findAll();
+    void exportAll(OutputStream outputStream);
     Page<T> findAllPageable(String filter, PaginateDTO paginateSortDTO);
+    SliceDTO<T> findAllByCursor(String filter, String cursor, PaginateDTO paginateSortDTO);
     void delete(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.model.NormalizedNames;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class, R2dbcAutoConfiguration.class})
+@EntityScan("com.marcoas.crudCursos.model")
+@EnableJpaRepositories("com.marcoas.crudCursos.repository")
+public class BenchmarkJpaApplication {
+
+    public static ConfigurableApplicationContext start(String database, String... properties) {
+        String[] args = Stream.concat(Stream.of("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN"), Stream.of(properties))
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(BenchmarkJpaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    public static void insertCourses(JdbcTemplate jdbc, int categories, int courses) {
+        int batch = 10_000;
+        for (int from = 1; from <= categories; from += batch) {
+            jdbc.batchUpdate("insert into Category (CatId, CatName, CatNormalizedName) values (?, ?, ?)", IntStream.range(from, Math.min(from + batch, categories + 1))
+                    .mapToObj(i -> new Object[]{(long) i, "Categoria " + i, "categoria " + i}).toList());
+        }
+        for (int from = 1; from <= courses; from += batch) {
+            int start = from;
+            jdbc.batchUpdate("insert into Course (CouId, CouName, CouNormalizedName, CouCategoryId) values (?, ?, ?, ?)", IntStream.range(start, Math.min(start + batch, courses + 1))
+                    .mapToObj(i -> {
+                        String name = String.format("Curso %07d", Integer.reverse(i) >>> 8);
+                        return new Object[]{(long) i, name, NormalizedNames.of(name), (long) (i % categories) + 1};
+                    }).toList());
+        }
+    }
+}
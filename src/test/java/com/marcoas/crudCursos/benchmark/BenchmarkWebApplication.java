@@ -0,0 +1,78 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.CrudCoursesApplication;
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.TwoTierCacheManager;
+import com.marcoas.crudCursos.config.CacheConfig;
+import common.InMemoryCacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Duration;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class, R2dbcAutoConfiguration.class})
+@EntityScan("com.marcoas.crudCursos.model")
+@EnableJpaRepositories("com.marcoas.crudCursos.repository")
+@EnableCaching(proxyTargetClass = true)
+@ComponentScan(basePackages = "com.marcoas.crudCursos", excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {CrudCoursesApplication.class, CacheConfig.class}),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.marcoas\\.crudCursos\\.(benchmark|reactive)\\..*"),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*Test(\\$.*)?")})
+public class BenchmarkWebApplication {
+
+    public static ConfigurableApplicationContext start(String database, boolean virtualThreads, Duration remoteRoundTrip) {
+        return new SpringApplicationBuilder(BenchmarkWebApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--benchmark.remote-round-trip=" + remoteRoundTrip.toNanos() + "ns",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.main.banner-mode=off",
+                        "--app.search.index.enabled=false",
+                        "--logging.level.root=WARN");
+    }
+
+    @Bean
+    public CategoryGenerations categoryGenerations() {
+        return new CategoryGenerations() {
+            @Override
+            public long current(Long categoryId) {
+                return 0;
+            }
+
+            @Override
+            public void bump(Long categoryId) {
+            }
+        };
+    }
+
+    @Bean
+    public CacheManager cacheManager(CategoryGenerations categoryGenerations,
+                                     @Value("${benchmark.remote-round-trip}") Duration remoteRoundTrip) {
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(new LatencyCacheManager(remoteRoundTrip.toNanos()),
+                new InMemoryCacheInvalidationBus(), 10_000, Duration.ofNanos(1), Duration.ofSeconds(5));
+        cacheManager.setEntryValidator("courses", value -> value instanceof CachedCourse cached && cached.isCurrent(categoryGenerations));
+        return cacheManager;
+    }
+}
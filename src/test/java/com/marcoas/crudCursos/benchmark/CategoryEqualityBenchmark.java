@@ -0,0 +1,60 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.model.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryEqualityBenchmark {
+    private static final int CATEGORIES = 100;
+
+    private Category category;
+    private Category copy;
+    private Category other;
+    private List<Category> list;
+    private Set<Category> set;
+
+    @Setup
+    public void setUp() {
+        category = new Category(CATEGORIES - 1L, "Categoria " + (CATEGORIES - 1));
+        copy = new Category(category.getId(), category.getName());
+        other = new Category(CATEGORIES + 1L, "Outra");
+        list = LongStream.range(0, CATEGORIES).mapToObj(i -> new Category(i, "Categoria " + i)).toList();
+        set = new HashSet<>(list);
+    }
+
+    @Benchmark
+    public boolean equalsCopy() {
+        return category.equals(copy);
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return category.equals(other);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return category.hashCode();
+    }
+
+    @Benchmark
+    public boolean listContains() {
+        return list.contains(copy);
+    }
+
+    @Benchmark
+    public boolean setContains() {
+        return set.contains(copy);
+    }
+}
@@ -0,0 +1,66 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+public class FilterQueryBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int CATEGORIES = 1_000;
+    private static final Map<String, String> SORTABLE = Map.of("id", "id", "name", "normalizedName");
+
+    @Param({"course", "category"})
+    public String entity;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"Curso 01", "Categoria 12"})
+    public String filter;
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository courseRepository;
+    private CategoryRepository categoryRepository;
+    private Pageable pageable;
+    private String pattern;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("filter-" + entity + "-" + rows + "-" + filter.replace(' ', '-'));
+        boolean course = "course".equals(entity);
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), course ? CATEGORIES : rows, course ? rows : 0);
+        courseRepository = context.getBean(CourseRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        PaginateDTO paginateDTO = new PaginateDTO((long) PAGE_SIZE, 0L).sortedBy(SORTABLE);
+        pageable = paginateDTO.buildPageable();
+        pattern = paginateDTO.pattern(filter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long pageWithTotal() {
+        if ("course".equals(entity)) {
+            return courseRepository.findIdsByNameContainsOrCategory_NameContains(pattern, pageable).getNumberOfElements()
+                    + courseRepository.countByNameContainsOrCategory_NameContains(pattern);
+        }
+        return categoryRepository.findByNameContains(pattern, pageable).getNumberOfElements()
+                + categoryRepository.countByNameContains(pattern);
+    }
+}
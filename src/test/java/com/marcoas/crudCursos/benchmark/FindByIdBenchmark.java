@@ -0,0 +1,111 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.TwoTierCacheManager;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.service.BatchWriter;
+import com.marcoas.crudCursos.service.CategoryService;
+import com.marcoas.crudCursos.service.CourseService;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import common.InMemoryCacheInvalidationBus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class FindByIdBenchmark {
+    private static final int CATEGORIES = 1_000;
+    private static final int COURSES = 10_000;
+
+    @Param({"category", "course"})
+    public String service;
+
+    @Param({"cached", "uncached"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private ErrorReporter errorReporter;
+    private LongFunction<Object> findById;
+    private long[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("find-by-id-" + service + "-" + cache);
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), CATEGORIES, COURSES);
+        CategoryGenerations generations = new CategoryGenerations() {
+            @Override
+            public long current(Long categoryId) {
+                return 0;
+            }
+
+            @Override
+            public void bump(Long categoryId) {
+            }
+        };
+        CacheManager cacheManager = "cached".equals(cache) ? cached(generations) : new NoOpCacheManager();
+        errorReporter = new ErrorReporter(10, Duration.ofMinutes(1), 1000);
+        BatchWriter batchWriter = new BatchWriter(context.getBean(PlatformTransactionManager.class), errorReporter);
+        CategoryService categoryService = withCaching(new CategoryService(context.getBean(CategoryRepository.class), null, cacheManager,
+                null, batchWriter, null, null, null, errorReporter), cacheManager);
+        CourseService courseService = new CourseService(context.getBean(CourseRepository.class), categoryService, cacheManager, generations,
+                null, batchWriter, null, null, null, errorReporter);
+        findById = "category".equals(service) ? id -> categoryService.findById(id) : id -> courseService.findById(id);
+        ids = new Random(42).longs(4096, 1, ("category".equals(service) ? CATEGORIES : COURSES) + 1).toArray();
+        for (long id : ids) {
+            findById.apply(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        errorReporter.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public Object findById() {
+        next = (next + 1) & (ids.length - 1);
+        return findById.apply(ids[next]);
+    }
+
+    private static CacheManager cached(CategoryGenerations generations) {
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(new ConcurrentMapCacheManager(), new InMemoryCacheInvalidationBus(),
+                10_000, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        cacheManager.setEntryValidator("courses", value -> value instanceof CachedCourse course && course.isCurrent(generations));
+        return cacheManager;
+    }
+
+    private static <T> T withCaching(T target, CacheManager cacheManager) {
+        CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+        interceptor.setCacheManager(cacheManager);
+        interceptor.afterPropertiesSet();
+        interceptor.afterSingletonsInstantiated();
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        @SuppressWarnings("unchecked")
+        T proxy = (T) proxyFactory.getProxy();
+        return proxy;
+    }
+}
@@ -0,0 +1,82 @@
+package com.marcoas.crudCursos.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+public class HttpLoad {
+
+    public static int[] levels() {
+        return Arrays.stream(System.getProperty("load.concurrency", "100,200,400,800").split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    public static Result run(Supplier<String> urls, int concurrency, Duration duration) throws Exception {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clients).build()) {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<Worker>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(clients.submit(() -> {
+                    Worker worker = new Worker();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(urls.get())).timeout(Duration.ofSeconds(30)).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                worker.record(System.nanoTime() - start);
+                            } else {
+                                worker.errors++;
+                            }
+                        } catch (Exception e) {
+                            worker.errors++;
+                        }
+                    }
+                    return worker;
+                }));
+            }
+            long[] latencies = new long[0];
+            long errors = 0;
+            for (Future<Worker> future : workers) {
+                Worker worker = future.get();
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + worker.size);
+                System.arraycopy(worker.latencies, 0, latencies, offset, worker.size);
+                errors += worker.errors;
+            }
+            Arrays.sort(latencies);
+            return new Result(latencies, errors, latencies.length / (double) duration.toSeconds());
+        }
+    }
+
+    private static class Worker {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        private void record(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+    }
+
+    public record Result(long[] latencies, long errors, double rps) {
+        public double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            return latencies[(int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private Course course;
+    private Page<Course> page;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper();
+        Category category = new Category(12L, "Tecnologia da Informação");
+        course = new Course(1234L, "Desenvolvimento Web com Angular", category);
+        List<Course> content = LongStream.range(0, pageSize)
+                .mapToObj(i -> new Course(1000 + i, "Desenvolvimento Web com Angular " + i, category))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(3, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] course() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(course);
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+}
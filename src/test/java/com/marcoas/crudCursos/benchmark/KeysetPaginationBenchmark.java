@@ -0,0 +1,54 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class KeysetPaginationBenchmark {
+    private static final long PAGE_SIZE = 10;
+
+    @Param({"1", "10000"})
+    public long page;
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository repository;
+    private String lastName = "";
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("keyset");
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkJpaApplication.insertCourses(jdbc, 100, 200_000);
+        repository = context.getBean(CourseRepository.class);
+        if (page > 1) {
+            Map<String, Object> last = jdbc.queryForMap("select CouName from Course order by CouName offset ? rows fetch next 1 rows only", (page - 1) * PAGE_SIZE - 1);
+            lastName = (String) last.get("CouName");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object offset() {
+        return repository.findByNameContainsOrCategory_NameContains(null, new PaginateDTO(PAGE_SIZE, page - 1).buildPageable());
+    }
+
+    @Benchmark
+    public Object keyset() {
+        return repository.findNextByNameContainsOrCategory_NameContains(null, lastName, new PaginateDTO(PAGE_SIZE, null).buildKeysetPageable());
+    }
+}
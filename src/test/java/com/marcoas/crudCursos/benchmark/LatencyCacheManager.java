@@ -0,0 +1,108 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.cache.BulkCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.LockSupport;
+
+public class LatencyCacheManager extends AbstractCacheManager {
+    private final long roundTripNanos;
+
+    public LatencyCacheManager(long roundTripNanos) {
+        this.roundTripNanos = roundTripNanos;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return new LatencyCache(new ConcurrentMapCache(name, false), roundTripNanos);
+    }
+
+    public void clear() {
+        getCacheNames().forEach(name -> ((LatencyCache) getCache(name)).delegate.clear());
+    }
+
+    private static class LatencyCache implements Cache, BulkCache {
+        private final ConcurrentMapCache delegate;
+        private final long roundTripNanos;
+
+        private LatencyCache(ConcurrentMapCache delegate, long roundTripNanos) {
+            this.delegate = delegate;
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        private void roundTrip() {
+            if (roundTripNanos > 0) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            roundTrip();
+            return delegate.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            roundTrip();
+            return delegate.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            roundTrip();
+            return delegate.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            roundTrip();
+            delegate.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            roundTrip();
+            delegate.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            roundTrip();
+            delegate.clear();
+        }
+
+        @Override
+        public Map<Object, Object> getAll(Collection<?> keys) {
+            roundTrip();
+            return BulkCache.of(delegate).getAll(keys);
+        }
+
+        @Override
+        public void putAll(Map<?, ?> values) {
+            roundTrip();
+            BulkCache.of(delegate).putAll(values);
+        }
+    }
+}
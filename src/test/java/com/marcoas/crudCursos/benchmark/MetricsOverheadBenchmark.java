@@ -0,0 +1,132 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.cache.TwoTierCache;
+import com.marcoas.crudCursos.cache.TwoTierCacheManager;
+import com.marcoas.crudCursos.cache.TwoTierCacheMetrics;
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.service.BatchWriter;
+import com.marcoas.crudCursos.service.CategoryService;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import com.marcoas.crudCursos.service.ServiceTimingInterceptor;
+import common.InMemoryCacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class MetricsOverheadBenchmark {
+    private static final int CATEGORIES = 1_000;
+
+    @Param({"off", "on"})
+    public String metrics;
+
+    @Param({"cached", "uncached"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private MeterRegistry registry;
+    private ErrorReporter errorReporter;
+    private CategoryService service;
+    private long[] ids;
+    private long[] missingIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        boolean on = "on".equals(metrics);
+        context = BenchmarkJpaApplication.start("metrics-" + metrics + "-" + cache, "--management.metrics.data.repository.autotime.enabled=" + on);
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), CATEGORIES, CATEGORIES);
+        registry = context.getBean(MeterRegistry.class);
+        CacheManager cacheManager = "cached".equals(cache) ? cached(on ? registry : null) : new NoOpCacheManager();
+        errorReporter = new ErrorReporter(10, Duration.ofMinutes(1), 1000);
+        BatchWriter batchWriter = new BatchWriter(context.getBean(PlatformTransactionManager.class), errorReporter);
+        CategoryService target = new CategoryService(context.getBean(CategoryRepository.class), null, cacheManager,
+                null, batchWriter, null, null, null, errorReporter);
+        service = proxy(target, cacheManager, on ? registry : null);
+        ids = new Random(42).longs(4096, 1, CATEGORIES + 1).toArray();
+        missingIds = new Random(42).longs(4096, CATEGORIES + 1, 2L * CATEGORIES + 1).toArray();
+        for (long id : ids) {
+            service.findById(id);
+        }
+        for (long id : missingIds) {
+            findMissing(id);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void printMeters() {
+        System.out.printf("%n%s: %d timed service calls, %.0f cache hits, %d timed repository calls%n", metrics,
+                registry.find("crudcursos.service").timers().stream().mapToLong(timer -> timer.count()).sum(),
+                registry.find("cache.gets").tag("result", "hit").functionCounters().stream().mapToDouble(counter -> counter.count()).sum(),
+                registry.find("spring.data.repository.invocations").timers().stream().mapToLong(timer -> timer.count()).sum());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        errorReporter.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public Object findById() {
+        next = (next + 1) & (ids.length - 1);
+        return service.findById(ids[next]);
+    }
+
+    @Benchmark
+    public Object findByIdNotFound() {
+        next = (next + 1) & (missingIds.length - 1);
+        return findMissing(missingIds[next]);
+    }
+
+    private Object findMissing(long id) {
+        try {
+            return service.findById(id);
+        } catch (ApiError e) {
+            return e;
+        }
+    }
+
+    private static CacheManager cached(MeterRegistry registry) {
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(new ConcurrentMapCacheManager(), new InMemoryCacheInvalidationBus(),
+                10_000, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        if (registry != null) {
+            new TwoTierCacheMetrics((TwoTierCache) cacheManager.getCache("categories"), Tags.empty()).bindTo(registry);
+        }
+        return cacheManager;
+    }
+
+    private static CategoryService proxy(CategoryService target, CacheManager cacheManager, MeterRegistry registry) {
+        CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+        interceptor.setCacheManager(cacheManager);
+        interceptor.afterPropertiesSet();
+        interceptor.afterSingletonsInstantiated();
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        if (registry != null) {
+            proxyFactory.addAdvice(new ServiceTimingInterceptor(() -> registry));
+        }
+        proxyFactory.addAdvice(interceptor);
+        return (CategoryService) proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,98 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.TwoTierCacheManager;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.service.BatchWriter;
+import com.marcoas.crudCursos.service.CourseService;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import common.InMemoryCacheInvalidationBus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class MultiGetBenchmark {
+    private static final int COURSES = 10_000;
+
+    @Param({"20", "100"})
+    public int ids;
+
+    @Param({"redis-hit", "db-miss"})
+    public String state;
+
+    @Param({"250"})
+    public long redisRoundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private LatencyCacheManager redis;
+    private CourseService service;
+    private List<Long> requested;
+    private ErrorReporter errorReporter;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("multiget");
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), 100, COURSES);
+        redis = new LatencyCacheManager(TimeUnit.MICROSECONDS.toNanos(redisRoundTripMicros));
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redis, new InMemoryCacheInvalidationBus(), 10_000, Duration.ofNanos(1), Duration.ofSeconds(5));
+        CategoryGenerations generations = new CategoryGenerations() {
+            @Override
+            public long current(Long categoryId) {
+                return 0;
+            }
+
+            @Override
+            public void bump(Long categoryId) {
+            }
+        };
+        cacheManager.setEntryValidator("courses", value -> value instanceof CachedCourse cached && cached.isCurrent(generations));
+        errorReporter = new ErrorReporter(10, Duration.ofMinutes(1), 1000);
+        BatchWriter batchWriter = new BatchWriter(context.getBean(PlatformTransactionManager.class), errorReporter);
+        service = new CourseService(context.getBean(CourseRepository.class), null, cacheManager, generations, null, batchWriter, null, null, null, errorReporter);
+        requested = new Random(42).longs(ids, 1, COURSES + 1).boxed().distinct().collect(Collectors.toList());
+        service.findByIds(requested);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetRemote() {
+        if ("db-miss".equals(state)) {
+            redis.clear();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        errorReporter.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public int sequentialFindById() {
+        int found = 0;
+        for (Long id : requested) {
+            if (service.findById(id) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int multiGet() {
+        return service.findByIds(requested).size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundPathBenchmark {
+    private static final HttpStatusCode NOT_FOUND = HttpStatusCode.valueOf(404);
+
+    @Param({"20", "120"})
+    public int depth;
+
+    private PrintStream stderr;
+    private ErrorReporter errorReporter;
+
+    @Setup
+    public void setUp() {
+        stderr = new PrintStream(OutputStream.nullOutputStream());
+        errorReporter = new ErrorReporter(10, Duration.ofMinutes(1), 1000);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        errorReporter.shutdown();
+    }
+
+    @Benchmark
+    public Object stackTraceAndPrintStackTrace() {
+        try {
+            return find(depth, true);
+        } catch (ResponseStatusException e) {
+            e.printStackTrace(stderr);
+            return e.getStatusCode();
+        }
+    }
+
+    @Benchmark
+    public Object stacklessApiErrorAndReporter() {
+        try {
+            return find(depth, false);
+        } catch (ApiError e) {
+            errorReporter.report("Error searching course.", e);
+            return e.getStatusCode();
+        } catch (ResponseStatusException e) {
+            return e;
+        }
+    }
+
+    private static Object find(int depth, boolean legacy) {
+        if (depth > 0) {
+            return find(depth - 1, legacy);
+        }
+        throw legacy ? new LegacyApiError("Course not found.") : new ApiError("Course not found.", NOT_FOUND);
+    }
+
+    private static class LegacyApiError extends ResponseStatusException {
+        private LegacyApiError(String reason) {
+            super(NOT_FOUND, reason);
+        }
+    }
+}
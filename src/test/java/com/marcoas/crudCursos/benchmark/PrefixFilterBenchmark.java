@@ -0,0 +1,66 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.dto.MatchMode;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PrefixFilterBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"CONTAINS", "PREFIX"})
+    public MatchMode match;
+
+    @Param({"Curso 001", "Categoria 4"})
+    public String filter;
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository courseRepository;
+    private CategoryRepository categoryRepository;
+    private Pageable pageable;
+    private String pattern;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("prefix-" + match + "-" + filter.replace(' ', '-'));
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), 1_000, 100_000);
+        courseRepository = context.getBean(CourseRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        PaginateDTO paginateDTO = new PaginateDTO((long) PAGE_SIZE, 0L, null, "id", match);
+        pageable = paginateDTO.buildPageable();
+        pattern = paginateDTO.pattern(filter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Long> courseIds() {
+        return courseRepository.findIdsByNameContainsOrCategory_NameContains(pattern, pageable).getContent();
+    }
+
+    @Benchmark
+    public long courseCount() {
+        return courseRepository.countByNameContainsOrCategory_NameContains(pattern);
+    }
+
+    @Benchmark
+    public long categoryCount() {
+        return categoryRepository.countByNameContains(pattern);
+    }
+}
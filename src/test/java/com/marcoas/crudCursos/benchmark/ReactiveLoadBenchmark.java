@@ -0,0 +1,71 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.reactive.ReactiveCrudCoursesApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+public class ReactiveLoadBenchmark {
+    private static final int COURSES = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = HttpLoad.levels();
+        Duration duration = Duration.ofSeconds(Long.getLong("load.seconds", 10));
+        Duration slo = Duration.ofMillis(Long.getLong("load.p99-slo-ms", 1000));
+        Map<String, Function<String, String>> endpoints = new LinkedHashMap<>();
+        endpoints.put("pageable", baseUrl -> baseUrl + "/api/course/pageable?size=" + PAGE_SIZE + "&page="
+                + ThreadLocalRandom.current().nextInt(COURSES / PAGE_SIZE));
+        endpoints.put("pageable+filter", baseUrl -> baseUrl + "/api/course/pageable?size=" + PAGE_SIZE + "&page=0&filter=categoria%20"
+                + ThreadLocalRandom.current().nextInt(1, 101));
+        endpoints.put("cursor", baseUrl -> baseUrl + "/api/course/pageable/cursor?size=" + PAGE_SIZE);
+
+        System.out.printf("H2 in memory, %d courses, %d s per level, p99 SLO %d ms%n", COURSES, duration.toSeconds(), slo.toMillis());
+        System.out.printf("%-16s %-9s %11s %10s %9s %9s %7s%n", "endpoint", "stack", "concurrency", "rps", "p50 ms", "p99 ms", "errors");
+        for (String stack : new String[]{"mvc", "mvc-vt", "webflux"}) {
+            ConfigurableApplicationContext data = BenchmarkJpaApplication.start("reactive-load-" + stack);
+            BenchmarkJpaApplication.insertCourses(data.getBean(JdbcTemplate.class), 100, COURSES);
+            ConfigurableApplicationContext context = "webflux".equals(stack)
+                    ? startReactive("reactive-load-" + stack)
+                    : BenchmarkWebApplication.start("reactive-load-" + stack, "mvc-vt".equals(stack), Duration.ZERO);
+            try {
+                String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+                for (Map.Entry<String, Function<String, String>> endpoint : endpoints.entrySet()) {
+                    HttpLoad.run(() -> endpoint.getValue().apply(baseUrl), levels[0], Duration.ofSeconds(5));
+                    double sustained = 0;
+                    for (int concurrency : levels) {
+                        HttpLoad.Result result = HttpLoad.run(() -> endpoint.getValue().apply(baseUrl), concurrency, duration);
+                        System.out.printf("%-16s %-9s %11d %10.0f %9.1f %9.1f %7d%n", endpoint.getKey(), stack, concurrency, result.rps(),
+                                result.percentile(0.50), result.percentile(0.99), result.errors());
+                        if (result.errors() == 0 && result.percentile(0.99) <= slo.toMillis()) {
+                            sustained = Math.max(sustained, result.rps());
+                        }
+                    }
+                    System.out.printf("%-16s %-9s max sustained rps (p99 <= %d ms, no errors): %.0f%n", endpoint.getKey(), stack, slo.toMillis(), sustained);
+                }
+            } finally {
+                context.close();
+                data.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startReactive(String database) {
+        return new SpringApplicationBuilder(ReactiveCrudCoursesApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run("--server.port=0",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+    }
+}
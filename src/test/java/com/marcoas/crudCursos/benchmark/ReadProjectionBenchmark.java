@@ -0,0 +1,78 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ReadProjectionBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"entity", "view"})
+    public String model;
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository repository;
+    private ObjectMapper mapper;
+    private Statistics statistics;
+    private long operations;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("projection-" + model);
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), 100, 2_000);
+        repository = context.getBean(CourseRepository.class);
+        mapper = new ObjectMapper();
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+        operations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatements() {
+        System.out.printf("%n%s: %.1f SQL statements/op, %.1f entities loaded/op%n", model,
+                (double) statistics.getPrepareStatementCount() / operations, (double) statistics.getEntityLoadCount() / operations);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        operations++;
+        Object page = "entity".equals(model)
+                ? repository.findAll(PageRequest.of(3, PAGE_SIZE, Sort.by("id")))
+                : repository.findByNameContainsOrCategory_NameContains(null, new PaginateDTO((long) PAGE_SIZE, 3L).buildPageable());
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] findAll() throws JsonProcessingException {
+        operations++;
+        Object all = "entity".equals(model) ? repository.findAll() : repository.findAllViews();
+        return mapper.writeValueAsBytes(all);
+    }
+}
@@ -0,0 +1,42 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.cache.EntityRedisSerializer;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisValueSerializerBenchmark {
+    @Param({"jdk", "binary"})
+    public String format;
+
+    private RedisSerializer<Object> serializer;
+    private Course course;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = "jdk".equals(format) ? new JdkSerializationRedisSerializer() : new EntityRedisSerializer(512);
+        course = new Course(1234L, "Desenvolvimento Web com Angular", new Category(12L, "Tecnologia da Informação"));
+        serialized = serializer.serialize(course);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(course);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
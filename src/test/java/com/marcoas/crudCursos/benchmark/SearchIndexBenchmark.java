@@ -0,0 +1,58 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.search.TrigramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SearchIndexBenchmark {
+    private static final String[] WORDS = {"java", "spring", "boot", "angular", "react", "dados", "web", "python", "cloud",
+            "devops", "kotlin", "docker", "redis", "mysql", "testes", "arquitetura", "segurança", "avançado", "básico", "intensivo"};
+
+    @Param({"1000000"})
+    public int courses;
+
+    @Param({"java", "ker red", "angular avançado", "424242", "zz"})
+    public String filter;
+
+    private TrigramIndex index;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new TrigramIndex();
+        names = new String[courses];
+        for (int i = 0; i < courses; i++) {
+            String name = (WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + i).toLowerCase(Locale.ROOT);
+            names[i] = name;
+            index.put(i, name, (long) random.nextInt(1000));
+        }
+    }
+
+    @Benchmark
+    public long[] trigramIndex() {
+        return index.search(filter, List.of());
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matches = 0;
+        for (String name : names) {
+            if (name.contains(filter)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
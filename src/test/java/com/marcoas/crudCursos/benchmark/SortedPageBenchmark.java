@@ -0,0 +1,60 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SortedPageBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final Map<String, String> SORTABLE = Map.of("id", "id", "name", "normalizedName", "category", "category.id");
+
+    @Param({"id,asc", "name,asc", "category,asc"})
+    public String sort;
+
+    @Param({"view", "ids"})
+    public String query;
+
+    @Param({"10", "2500"})
+    public long page;
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository repository;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("sorted-" + sort.replace(',', '-') + "-" + query + "-" + page);
+        BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), 100, 100_000);
+        repository = context.getBean(CourseRepository.class);
+        pageable = new PaginateDTO((long) PAGE_SIZE, page, null, sort).sortedBy(SORTABLE).buildPageable();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CourseViewDTO> page() {
+        if ("view".equals(query)) {
+            return repository.findByNameContainsOrCategory_NameContains(null, pageable).getContent();
+        }
+        Slice<Long> ids = repository.findIdsByNameContainsOrCategory_NameContains(null, pageable);
+        return repository.findViewsByIdIn(ids.getContent());
+    }
+}
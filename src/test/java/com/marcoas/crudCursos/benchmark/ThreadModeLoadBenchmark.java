@@ -0,0 +1,54 @@
+package com.marcoas.crudCursos.benchmark;
+
+import com.marcoas.crudCursos.service.CourseService;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+public class ThreadModeLoadBenchmark {
+    private static final int COURSES = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        Duration roundTrip = Duration.ofMillis(Long.getLong("load.round-trip-ms", 200));
+        int[] levels = HttpLoad.levels();
+        Duration duration = Duration.ofSeconds(Long.getLong("load.seconds", 10));
+        Duration slo = Duration.ofMillis(Long.getLong("load.p99-slo-ms", 1000));
+
+        System.out.printf("GET /api/course/{id}, remote round trip %d ms, %d s per level, p99 SLO %d ms%n",
+                roundTrip.toMillis(), duration.toSeconds(), slo.toMillis());
+        System.out.printf("%-9s %11s %10s %9s %9s %7s%n", "mode", "concurrency", "rps", "p50 ms", "p99 ms", "errors");
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            ConfigurableApplicationContext context = BenchmarkWebApplication.start("load-" + mode, virtualThreads, roundTrip);
+            try {
+                BenchmarkJpaApplication.insertCourses(context.getBean(JdbcTemplate.class), 100, COURSES);
+                CourseService courseService = context.getBean(CourseService.class);
+                for (long from = 1; from <= COURSES; from += 100) {
+                    courseService.findByIds(LongStream.range(from, Math.min(from + 100, COURSES + 1)).boxed().toList());
+                }
+                String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api/course/";
+                HttpLoad.run(() -> randomCourse(baseUrl), levels[levels.length - 1], Duration.ofSeconds(5));
+                double sustained = 0;
+                for (int concurrency : levels) {
+                    HttpLoad.Result result = HttpLoad.run(() -> randomCourse(baseUrl), concurrency, duration);
+                    System.out.printf("%-9s %11d %10.0f %9.1f %9.1f %7d%n", mode, concurrency, result.rps(),
+                            result.percentile(0.50), result.percentile(0.99), result.errors());
+                    if (result.errors() == 0 && result.percentile(0.99) <= slo.toMillis()) {
+                        sustained = Math.max(sustained, result.rps());
+                    }
+                }
+                System.out.printf("%-9s max sustained rps (p99 <= %d ms, no errors): %.0f%n", mode, slo.toMillis(), sustained);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private static String randomCourse(String baseUrl) {
+        return baseUrl + ThreadLocalRandom.current().nextInt(1, COURSES + 1);
+    }
+}
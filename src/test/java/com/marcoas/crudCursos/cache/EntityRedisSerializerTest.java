@@ -0,0 +1,105 @@
+package com.marcoas.crudCursos.cache;
+
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static common.CategoryConstants.CATEGORYVIEW;
+import static common.CourseConstants.COURSEVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EntityRedisSerializerTest {
+    private final EntityRedisSerializer serializer = new EntityRedisSerializer(512);
+
+    @Test
+    public void serializeCategory_ReturnsEqualCategoryAfterRoundTrip() {
+        CategoryViewDTO sut = (CategoryViewDTO) serializer.deserialize(serializer.serialize(CATEGORYVIEW));
+        assertThat(sut).isEqualTo(CATEGORYVIEW);
+    }
+
+    @Test
+    public void serializeCourse_ReturnsEqualCourseAfterRoundTrip() {
+        CourseViewDTO sut = (CourseViewDTO) serializer.deserialize(serializer.serialize(COURSEVIEW));
+        assertThat(sut).isEqualTo(COURSEVIEW);
+    }
+
+    @Test
+    public void serializeCachedCourse_KeepsGenerationAfterRoundTrip() {
+        CachedCourse sut = (CachedCourse) serializer.deserialize(serializer.serialize(new CachedCourse(42L, COURSEVIEW)));
+        assertThat(sut.generation()).isEqualTo(42L);
+        assertThat(sut.course()).isEqualTo(COURSEVIEW);
+    }
+
+    @Test
+    public void serializeCachedPage_KeepsIdsAndTotalAfterRoundTrip() {
+        byte[] bytes = serializer.serialize(new CachedPage(new long[]{1000L, 1001L, 998L, 5_000_000L}, 123_456L));
+        CachedPage sut = (CachedPage) serializer.deserialize(bytes);
+        assertThat(bytes[3]).isEqualTo(EntityRedisSerializer.TYPE_CACHED_PAGE);
+        assertThat(sut.ids()).containsExactly(1000L, 1001L, 998L, 5_000_000L);
+        assertThat(sut.total()).isEqualTo(123_456L);
+    }
+
+    @Test
+    public void serializeCourse_WithNullFields_ReturnsNullFieldsAfterRoundTrip() {
+        CourseViewDTO sut = (CourseViewDTO) serializer.deserialize(serializer.serialize(new CourseViewDTO(null, null, null)));
+        assertThat(sut.id()).isNull();
+        assertThat(sut.name()).isNull();
+        assertThat(sut.category()).isNull();
+    }
+
+    @Test
+    public void serializeCourse_IsSmallerThanJdkSerialization() {
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(COURSEVIEW);
+        assertThat(serializer.serialize(COURSEVIEW).length).isLessThan(jdk.length / 4);
+    }
+
+    @Test
+    public void serializeCourse_AboveThreshold_IsCompressed() {
+        EntityRedisSerializer compressing = new EntityRedisSerializer(16);
+        CourseViewDTO course = new CourseViewDTO(7L, "Angular ".repeat(50), CATEGORYVIEW);
+
+        byte[] bytes = compressing.serialize(course);
+        CourseViewDTO sut = (CourseViewDTO) compressing.deserialize(bytes);
+
+        assertThat(bytes[2] & EntityRedisSerializer.FLAG_COMPRESSED).isNotZero();
+        assertThat(bytes.length).isLessThan(course.name().length());
+        assertThat(sut).isEqualTo(course);
+    }
+
+    @Test
+    public void deserialize_WithJdkSerializedView_ReturnsValue() {
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(COURSEVIEW);
+        assertThat(serializer.deserialize(jdk)).isEqualTo(COURSEVIEW);
+    }
+
+    @Test
+    public void deserialize_WithPreSeriesJdkCategoryEntity_NeverReturnsView() throws IOException {
+        byte[] legacy = legacyEntry("legacy-category.bin");
+
+        assertThatThrownBy(() -> serializer.deserialize(legacy)).isInstanceOf(SerializationException.class);
+    }
+
+    static byte[] legacyEntry(String name) throws IOException {
+        try (InputStream in = EntityRedisSerializerTest.class.getResourceAsStream("/cache/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    public void serialize_WithOtherType_FallsBackToJdkSerialization() {
+        assertThat(serializer.deserialize(serializer.serialize(42L))).isEqualTo(42L);
+    }
+
+    @Test
+    public void deserialize_WithNewerFormatVersion_ThrowsException() {
+        byte[] bytes = serializer.serialize(CATEGORYVIEW);
+        bytes[1] = EntityRedisSerializer.VERSION + 1;
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+}
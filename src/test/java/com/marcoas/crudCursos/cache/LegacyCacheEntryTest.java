@@ -0,0 +1,75 @@
+package com.marcoas.crudCursos.cache;
+
+import com.marcoas.crudCursos.config.CacheConfig;
+import com.marcoas.crudCursos.model.Category;
+import common.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static common.CategoryConstants.CATEGORYVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LegacyCacheEntryTest {
+    private RedisCacheWriter writer;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        writer = mock(RedisCacheWriter.class);
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        CacheConfig.valueSerializer("binary", 512, getClass().getClassLoader())));
+        RedisCacheManager redis = RedisCacheManager.builder(writer).cacheDefaults(configuration).build();
+        redis.afterPropertiesSet();
+        cacheManager = new TwoTierCacheManager(redis, new InMemoryCacheInvalidationBus(), 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        CacheConfig.registerEntryValidators(cacheManager, mock(CategoryGenerations.class));
+    }
+
+    @Test
+    public void get_WithPreSeriesJdkCategory_ReloadsInsteadOfFailing() throws IOException {
+        stub("categories", EntityRedisSerializerTest.legacyEntry("legacy-category.bin"));
+        Cache cache = cacheManager.getCache("categories");
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> CATEGORYVIEW)).isEqualTo(CATEGORYVIEW);
+        verify(writer).put(eq("categories"), any(), any(), any());
+        assertThat(cacheManager.getStatistics("categories").getStaleHits()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_WithPreSeriesJdkCourse_TreatsEntryAsMiss() throws IOException {
+        stub("courses", EntityRedisSerializerTest.legacyEntry("legacy-course.bin"));
+
+        assertThat(cacheManager.getCache("courses").get(1L)).isNull();
+        assertThat(((BulkCache) cacheManager.getCache("courses")).getAll(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    public void get_WithReadableEntityOfOldType_RejectsItThroughValidator() {
+        stub("categories", new JdkSerializationRedisSerializer().serialize(new Category(1L, "Web")));
+
+        assertThat(cacheManager.getCache("categories").get(1L)).isNull();
+        assertThat(((BulkCache) cacheManager.getCache("categories")).getAll(List.of(1L))).isEqualTo(Map.of());
+    }
+
+    private void stub(String cacheName, byte[] value) {
+        when(writer.get(eq(cacheName), any())).thenReturn(value);
+        when(writer.get(eq(cacheName), any(), any(Duration.class))).thenReturn(value);
+    }
+}
@@ -0,0 +1,266 @@
+package com.marcoas.crudCursos.cache;
+
+import common.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static common.CategoryConstants.CATEGORYENTITY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TwoTierCacheManagerTest {
+    private ConcurrentMapCacheManager redis;
+    private TwoTierCacheManager node1;
+    private TwoTierCacheManager node2;
+
+    @BeforeEach
+    public void setUp() {
+        redis = new ConcurrentMapCacheManager();
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        node1 = new TwoTierCacheManager(redis, bus, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        node2 = new TwoTierCacheManager(redis, bus, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void get_AfterRemoteHit_ServesFromLocalTier() {
+        redis.getCache("categories").put(1L, CATEGORYENTITY);
+        Cache cache = node1.getCache("categories");
+
+        assertThat(cache.get(1L).get()).isEqualTo(CATEGORYENTITY);
+        assertThat(cache.get(1L).get()).isEqualTo(CATEGORYENTITY);
+
+        CacheStatistics sut = node1.getStatistics("categories");
+        assertThat(sut.getLocalHits()).isEqualTo(1);
+        assertThat(sut.getLocalMisses()).isEqualTo(1);
+        assertThat(sut.getRemoteHits()).isEqualTo(1);
+        assertThat(sut.getRemoteMisses()).isZero();
+    }
+
+    @Test
+    public void get_WithUnknownKey_CountsMissOnBothTiers() {
+        assertThat(node1.getCache("categories").get(99L)).isNull();
+
+        CacheStatistics sut = node1.getStatistics("categories");
+        assertThat(sut.getLocalMisses()).isEqualTo(1);
+        assertThat(sut.getRemoteMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void put_OnOneNode_DropsStaleLocalEntryOnOtherNodes() {
+        node1.getCache("categories").put(1L, "old");
+        assertThat(node2.getCache("categories").get(1L).get()).isEqualTo("old");
+
+        node1.getCache("categories").put(1L, "new");
+
+        assertThat(node1.getCache("categories").get(1L).get()).isEqualTo("new");
+        assertThat(node2.getCache("categories").get(1L).get()).isEqualTo("new");
+    }
+
+    @Test
+    public void evict_OnOneNode_DropsLocalEntryOnAllNodes() {
+        node1.getCache("courses").put(1L, "course");
+        node2.getCache("courses").get(1L);
+
+        node2.getCache("courses").evict(1L);
+
+        assertThat(node1.getCache("courses").get(1L)).isNull();
+        assertThat(node2.getCache("courses").get(1L)).isNull();
+    }
+
+    @Test
+    public void clear_OnOneNode_DropsAllLocalEntriesOnAllNodes() {
+        node1.getCache("courses").put(1L, "course1");
+        node1.getCache("courses").put(2L, "course2");
+        node2.getCache("courses").get(1L);
+        node2.getCache("courses").get(2L);
+
+        node1.getCache("courses").clear();
+
+        assertThat(node2.getCache("courses").get(1L)).isNull();
+        assertThat(node2.getCache("courses").get(2L)).isNull();
+    }
+
+    @Test
+    public void get_WithValueLoader_LoadsOnceAndStoresInBothTiers() {
+        Cache cache = node1.getCache("categories");
+
+        assertThat(cache.get(1L, () -> CATEGORYENTITY)).isEqualTo(CATEGORYENTITY);
+        assertThat(cache.get(1L, Object.class)).isEqualTo(CATEGORYENTITY);
+        assertThat(redis.getCache("categories").get(1L).get()).isEqualTo(CATEGORYENTITY);
+        assertThat(node1.getStatistics("categories").getLocalHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_WithConcurrentMisses_CoalescesIntoOneLoad() throws Exception {
+        Cache cache = node1.getCache("courses");
+        int threads = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<Object> leader = executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await();
+                return "course";
+            }));
+            loaderStarted.await();
+            List<Future<Object>> followers = new ArrayList<>();
+            for (int i = 1; i < threads; i++) {
+                followers.add(executor.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (node1.getStatistics("courses").getCoalesced() < threads - 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("course");
+            for (Future<Object> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("course");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        CacheStatistics sut = node1.getStatistics("courses");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(sut.getLoads()).isEqualTo(1);
+        assertThat(sut.getCoalesced()).isEqualTo(threads - 1);
+        assertThat(sut.getCoalescedTimeouts()).isZero();
+    }
+
+    @Test
+    public void get_WhenLoadExceedsTimeout_WaiterLoadsOnItsOwn() throws Exception {
+        TwoTierCacheManager manager = new TwoTierCacheManager(redis, new InMemoryCacheInvalidationBus(), 100, Duration.ofMinutes(1), Duration.ofMillis(50));
+        Cache cache = manager.getCache("courses");
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> slow = executor.submit(() -> cache.get(1L, () -> {
+                loaderStarted.countDown();
+                releaseLoader.await();
+                return "slow";
+            }));
+            loaderStarted.await();
+
+            assertThat(cache.get(1L, () -> "fast")).isEqualTo("fast");
+            releaseLoader.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(manager.getStatistics("courses").getCoalescedTimeouts()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_WhenLoaderFails_PropagatesToWaitersAndDoesNotCache() throws Exception {
+        Cache cache = node1.getCache("courses");
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> cache.get(1L, () -> {
+                loaderStarted.countDown();
+                releaseLoader.await();
+                throw new IllegalStateException("database down");
+            }));
+            loaderStarted.await();
+            Future<Object> follower = executor.submit(() -> cache.get(1L, () -> "other"));
+            while (node1.getStatistics("courses").getCoalesced() < 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    public void get_WithStaleEntry_ReloadsThroughValueLoader() {
+        AtomicLong generation = new AtomicLong();
+        node1.setEntryValidator("courses", value -> (Long) value == generation.get());
+        Cache cache = node1.getCache("courses");
+        cache.put(1L, 0L);
+
+        assertThat(cache.get(1L, () -> -1L)).isEqualTo(0L);
+        generation.set(1);
+        assertThat(cache.get(1L, () -> 1L)).isEqualTo(1L);
+        assertThat(cache.get(1L, () -> -1L)).isEqualTo(1L);
+        assertThat(redis.getCache("courses").get(1L).get()).isEqualTo(1L);
+
+        CacheStatistics sut = node1.getStatistics("courses");
+        assertThat(sut.getStaleHits()).isEqualTo(1);
+        assertThat(sut.getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_WithStaleRemoteEntry_TreatsItAsMiss() {
+        redis.getCache("courses").put(1L, 0L);
+        node1.setEntryValidator("courses", value -> (Long) value > 0);
+
+        assertThat(node1.getCache("courses").get(1L)).isNull();
+        assertThat(node1.getStatistics("courses").getStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void setLocalTimeToLive_ExpiresOnlyThatCacheLocally() throws Exception {
+        node1.setLocalTimeToLive("courses-missing", Duration.ofMillis(50));
+        node1.getCache("courses-missing").put(1L, Boolean.TRUE);
+        node1.getCache("courses").put(1L, "course");
+        redis.getCache("courses-missing").evict(1L);
+        redis.getCache("courses").evict(1L);
+        Thread.sleep(100);
+
+        assertThat(node1.getCache("courses-missing").get(1L)).isNull();
+        assertThat(node1.getCache("courses").get(1L).get()).isEqualTo("course");
+    }
+
+    @Test
+    public void getAll_ReadsLocalThenRemoteAndSkipsStaleEntries() {
+        node1.setEntryValidator("courses", value -> !"stale".equals(value));
+        node1.getCache("courses").put(1L, "local");
+        redis.getCache("courses").put(2L, "remote");
+        redis.getCache("courses").put(3L, "stale");
+
+        Map<Object, Object> sut = ((BulkCache) node1.getCache("courses")).getAll(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(sut).containsExactly(Map.entry(1L, "local"), Map.entry(2L, "remote"));
+        CacheStatistics statistics = node1.getStatistics("courses");
+        assertThat(statistics.getLocalHits()).isEqualTo(1);
+        assertThat(statistics.getRemoteHits()).isEqualTo(1);
+        assertThat(statistics.getRemoteMisses()).isEqualTo(2);
+        assertThat(statistics.getStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void putAll_StoresInBothTiers() {
+        ((BulkCache) node1.getCache("courses")).putAll(Map.of(1L, "new", 2L, "two"));
+
+        assertThat(redis.getCache("courses").get(2L).get()).isEqualTo("two");
+        redis.getCache("courses").clear();
+        assertThat(node1.getCache("courses").get(1L).get()).isEqualTo("new");
+        assertThat(node1.getStatistics("courses").getLoads()).isEqualTo(2);
+    }
+}
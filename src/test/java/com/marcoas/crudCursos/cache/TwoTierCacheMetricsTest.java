@@ -0,0 +1,64 @@
+package com.marcoas.crudCursos.cache;
+
+import common.InMemoryCacheInvalidationBus;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+
+import static common.CategoryConstants.CATEGORYENTITY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TwoTierCacheMetricsTest {
+    private SimpleMeterRegistry registry;
+    private ConcurrentMapCacheManager redis;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        redis = new ConcurrentMapCacheManager();
+        TwoTierCacheManager manager = new TwoTierCacheManager(redis, new InMemoryCacheInvalidationBus(), 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        cache = (TwoTierCache) manager.getCache("categories");
+        new TwoTierCacheMetrics(cache, Tags.of("application", "test")).bindTo(registry);
+    }
+
+    @Test
+    public void bindTo_AfterLookups_ExportsHitsMissesPutsAndEvictions() {
+        cache.get(1L);
+        cache.put(1L, CATEGORYENTITY);
+        cache.get(1L);
+        cache.evict(1L);
+
+        assertThat(count("cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(count("cache.gets", "result", "miss")).isEqualTo(1);
+        assertThat(count("cache.puts")).isEqualTo(1);
+        assertThat(count("cache.evictions")).isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "categories").tag("application", "test").gauge().value()).isZero();
+    }
+
+    @Test
+    public void bindTo_AfterRemoteHit_ExportsCountersPerTier() {
+        redis.getCache("categories").put(1L, CATEGORYENTITY);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        assertThat(tier("local", "hit")).isEqualTo(1);
+        assertThat(tier("local", "miss")).isEqualTo(1);
+        assertThat(tier("remote", "hit")).isEqualTo(1);
+        assertThat(tier("remote", "miss")).isZero();
+        assertThat(count("cache.gets", "result", "hit")).isEqualTo(2);
+    }
+
+    private double count(String name, String... tags) {
+        return registry.get(name).tag("cache", "categories").tags(tags).functionCounter().count();
+    }
+
+    private double tier(String tier, String result) {
+        return count("cache.tier.gets", "tier", tier, "result", result);
+    }
+}
@@ -0,0 +1,37 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(IdGeneratorSeeder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class IdGeneratorSeederTest {
+    @Autowired
+    private IdGeneratorSeeder seeder;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    public void seed_WithRowsInsertedOutsideGenerator_NextIdsStartAfterMaxId() {
+        jdbc.update("insert into Category (CatId, CatName) values (?, ?)", 5000L, "Legado");
+
+        seeder.seed("Category", "CatId");
+        Category category = categoryRepository.saveAndFlush(new Category(null, "Nova"));
+
+        assertThat(category.getId()).isGreaterThan(5000L);
+    }
+}
@@ -0,0 +1,49 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NormalizedNameMigration.class)
+public class NormalizedNameMigrationTest {
+    @Autowired
+    private NormalizedNameMigration migration;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    public void migrate_WithRowsInsertedWithoutNormalizedName_MakesThemFilterable() {
+        jdbc.update("insert into Category (CatId, CatName) values (?, ?)", 5000L, " Legado ");
+
+        int updated = migration.migrate("Category", "CatId", "CatName", "CatNormalizedName");
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(categoryRepository.findByNameContains("%legado%", PageRequest.of(0, 10)).getContent())
+                .extracting(CategoryViewDTO::name).containsExactly(" Legado ");
+    }
+
+    @Test
+    public void migrate_WithRowsNormalizedByPreviousRule_FoldsAccentsAndIsIdempotent() {
+        jdbc.update("insert into Category (CatId, CatName, CatNormalizedName) values (?, ?, ?)", 5001L, "Computação  Gráfica", "computação  gráfica");
+        jdbc.update("insert into Category (CatId, CatName, CatNormalizedName) values (?, ?, ?)", 5002L, "Redes", "redes");
+
+        int first = migration.migrate("Category", "CatId", "CatName", "CatNormalizedName");
+        int second = migration.migrate("Category", "CatId", "CatName", "CatNormalizedName");
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(jdbc.queryForObject("select CatNormalizedName from Category where CatId = 5001", String.class)).isEqualTo("computacao grafica");
+    }
+}
@@ -0,0 +1,71 @@
+package com.marcoas.crudCursos.config;
+
+import com.marcoas.crudCursos.dto.StatementTimingDTO;
+import com.marcoas.crudCursos.jdbc.SlowQueryEndpoint;
+import com.marcoas.crudCursos.jdbc.StatementStatistics;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SqlMonitoringConfig.class)
+@TestPropertySource(properties = "app.sql.log.sample-rate=0")
+public class SqlMonitoringConfigTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private StatementStatistics statistics;
+    @Autowired
+    private SlowQueryEndpoint endpoint;
+
+    @BeforeEach
+    public void setUp() {
+        statistics.reset();
+    }
+
+    @Test
+    public void dataSource_WithMonitoringEnabled_TimesEveryNormalizedStatement() {
+        jdbc.queryForList("select CatId from Category where CatId in (1, 2, 3)");
+        jdbc.queryForList("select CatId from Category where CatId in (?, ?)", 4L, 5L);
+        categoryRepository.findAllViews();
+
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+        List<StatementTimingDTO> sut = endpoint.slowest(null, "count");
+        assertThat(sut.get(0).sql()).isEqualTo("select CatId from Category where CatId in (?)");
+        assertThat(sut.get(0).count()).isEqualTo(2);
+        assertThat(sut).hasSize(2);
+        assertThat(sut.get(1).sql()).startsWith("select").doesNotContain("  ");
+    }
+
+    @Test
+    public void slowest_WithLimit_ReturnsStatementsOrderedByTotalTime() {
+        for (int i = 0; i < 3; i++) {
+            jdbc.queryForObject("select count(*) from Category", Long.class);
+        }
+        jdbc.queryForObject("select count(*) from Course", Long.class);
+
+        List<StatementTimingDTO> sut = endpoint.slowest(1, null);
+
+        assertThat(sut).hasSize(1);
+        assertThat(sut.get(0).totalMillis()).isGreaterThanOrEqualTo(sut.get(0).maxMillis());
+        endpoint.reset();
+        assertThat(endpoint.slowest(10, null)).isEmpty();
+    }
+}
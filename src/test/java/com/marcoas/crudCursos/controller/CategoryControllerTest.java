@@ -2,9 +2,12 @@ package com.marcoas.crudCursos.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
 import com.marcoas.crudCursos.dto.CategoryDTO;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
 import com.marcoas.crudCursos.dto.PaginateDTO;
-import com.marcoas.crudCursos.model.Category;
 import com.marcoas.crudCursos.service.CategoryService;
 import common.CategoryConstants;
 import org.junit.jupiter.api.Test;
@@ -18,14 +21,20 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CategoryController.class)
@@ -41,12 +50,46 @@ public class CategoryControllerTest {
 
     @Test
     public void createCategory_WithValidData_ReturnsCreated() throws Exception {
-        when(categoryService.create(CategoryConstants.CATEGORYDTO)).thenReturn(CategoryConstants.CATEGORYENTITY);
+        when(categoryService.create(CategoryConstants.CATEGORYDTO)).thenReturn(CategoryConstants.CATEGORYVIEW);
         mockMvc.perform(post("/api/category")
                         .content(objectMapper.writeValueAsString(CategoryConstants.CATEGORYDTO))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$").value(CategoryConstants.CATEGORYENTITY));
+                .andExpect(jsonPath("$.id").value(CategoryConstants.CATEGORYVIEW.id()))
+                .andExpect(jsonPath("$.name").value(CategoryConstants.CATEGORYVIEW.name()));
+    }
+
+    @Test
+    public void createCategoryBatch_ReturnsResultPerItem() throws Exception {
+        BatchItemDTO[] items = {BatchItemDTO.created(0, 1l), BatchItemDTO.rejected(1, BatchStatus.CONFLICT, "Name already exists.")};
+        when(categoryService.createBatch(anyList())).thenReturn(BatchResultDTO.of(items));
+
+        mockMvc.perform(post("/api/category/batch")
+                        .content(objectMapper.writeValueAsString(List.of(new CategoryDTO("Web"), new CategoryDTO("Web"))))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[1].status").value("CONFLICT"));
+    }
+
+    @Test
+    public void exportCategories_WithNdjsonAccept_StreamsLines() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(categoryService).exportAll(any());
+
+        for (MvcResult started : List.of(
+                mockMvc.perform(get("/api/category").accept(MediaType.APPLICATION_NDJSON)).andExpect(request().asyncStarted()).andReturn(),
+                mockMvc.perform(get("/api/category/export")).andExpect(request().asyncStarted()).andReturn())) {
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        }
     }
 
     @Test
@@ -86,10 +129,11 @@ public class CategoryControllerTest {
 
     @Test
     public void findCategoryById_WithValidId_ReturnsCategory() throws Exception {
-        when(categoryService.findById(anyLong())).thenReturn(CategoryConstants.CATEGORYENTITY);
+        when(categoryService.findById(anyLong())).thenReturn(CategoryConstants.CATEGORYVIEW);
         mockMvc.perform(get("/api/category/" + anyLong()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value(CategoryConstants.CATEGORYENTITY));
+                .andExpect(jsonPath("$.id").value(CategoryConstants.CATEGORYVIEW.id()))
+                .andExpect(jsonPath("$.name").value(CategoryConstants.CATEGORYVIEW.name()));
     }
 
     @Test
@@ -100,12 +144,12 @@ public class CategoryControllerTest {
     }
     @Test
     public void findAllCategory_ReturnListOfCategory() throws Exception {
-        List<Category> categories = List.of(
-                new Category(null, "ValidName1"),
-                new Category(null, "ValidName2"),
-                new Category(null, "ValidName3"),
-                new Category(null, "ValidName4"),
-                new Category(null, "ValidName5")
+        List<CategoryViewDTO> categories = List.of(
+                new CategoryViewDTO(null, "ValidName1"),
+                new CategoryViewDTO(null, "ValidName2"),
+                new CategoryViewDTO(null, "ValidName3"),
+                new CategoryViewDTO(null, "ValidName4"),
+                new CategoryViewDTO(null, "ValidName5")
         );
         when(categoryService.findAll()).thenReturn(categories);
         mockMvc.perform(get("/api/category"))
@@ -120,12 +164,12 @@ public class CategoryControllerTest {
 
     @Test
     public void findAllCategoryPageable_ReturnPageListOfCategory() throws Exception {
-        List<Category> categories = List.of(
-                new Category(1L, "ValidName1"),
-                new Category(2L, "ValidName2"),
-                new Category(3L, "ValidName3")
+        List<CategoryViewDTO> categories = List.of(
+                new CategoryViewDTO(1L, "ValidName1"),
+                new CategoryViewDTO(2L, "ValidName2"),
+                new CategoryViewDTO(3L, "ValidName3")
         );
-        Page<Category> categoryPage = new PageImpl<>(categories);
+        Page<CategoryViewDTO> categoryPage = new PageImpl<>(categories);
 
         when(categoryService.findAllPageable(eq(null), any(PaginateDTO.class))).thenReturn(categoryPage);
 
@@ -147,9 +191,20 @@ public class CategoryControllerTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content.length()").value(0));
     }
+    @Test
+    public void findCategoriesByIds_ReturnsCategoriesInRequestOrder() throws Exception {
+        when(categoryService.findByIds(List.of(3l, 1l))).thenReturn(List.of(new CategoryViewDTO(3l, "Web"), new CategoryViewDTO(1l, "Dados")));
+
+        mockMvc.perform(get("/api/category").param("ids", "3,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
     @Test
     public void updateCategory_WithValidData_ReturnsCategory() throws Exception {
-        when(categoryService.update(1l, CategoryConstants.CATEGORYDTO)).thenReturn(CategoryConstants.CATEGORYENTITY);
+        when(categoryService.update(1l, CategoryConstants.CATEGORYDTO)).thenReturn(CategoryConstants.CATEGORYVIEW);
         mockMvc.perform(put("/api/category/1")
                         .content(objectMapper.writeValueAsString(CategoryConstants.CATEGORYDTO))
                         .contentType(MediaType.APPLICATION_JSON))
@@ -2,10 +2,17 @@ package com.marcoas.crudCursos.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
 import com.marcoas.crudCursos.dto.CourseDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.ImportJobDTO;
+import com.marcoas.crudCursos.dto.ImportStatus;
 import com.marcoas.crudCursos.dto.PaginateDTO;
-import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.dto.SliceDTO;
 import com.marcoas.crudCursos.service.CourseService;
+import com.marcoas.crudCursos.service.imports.CourseImportService;
 import common.CategoryConstants;
 import common.CourseConstants;
 import org.junit.jupiter.api.Test;
@@ -17,16 +24,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 @WebMvcTest(CourseController.class)
 @ActiveProfiles("test")
@@ -38,22 +53,73 @@ public class CourseControllerTest {
 
     @MockBean
     private CourseService courseService;
+    @MockBean
+    private CourseImportService courseImportService;
 
     @Test
     public void createCategory_WithValidData_ReturnsCreated() throws Exception {
-        when(courseService.create(CourseConstants.COURSEDTO)).thenReturn(CourseConstants.COURSEENTITY);
+        when(courseService.create(CourseConstants.COURSEDTO)).thenReturn(CourseConstants.COURSEVIEW);
 
         mockMvc.perform(post("/api/course")
                         .content(objectMapper.writeValueAsString(CourseConstants.COURSEDTO))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(CourseConstants.COURSEENTITY.getId()))
-                .andExpect(jsonPath("$.name").value(CourseConstants.COURSEENTITY.getName()))
-                .andExpect(jsonPath("$.category.id").value(CourseConstants.COURSEENTITY.getCategory().getId()))
-                .andExpect(jsonPath("$.category.name").value(CourseConstants.COURSEENTITY.getCategory().getName()));
+                .andExpect(jsonPath("$.id").value(CourseConstants.COURSEVIEW.id()))
+                .andExpect(jsonPath("$.name").value(CourseConstants.COURSEVIEW.name()))
+                .andExpect(jsonPath("$.category.id").value(CourseConstants.COURSEVIEW.category().id()))
+                .andExpect(jsonPath("$.category.name").value(CourseConstants.COURSEVIEW.category().name()));
     }
 
 
+    @Test
+    public void createCourseBatch_ReturnsResultPerItem() throws Exception {
+        BatchItemDTO[] items = {BatchItemDTO.created(0, 1l), BatchItemDTO.rejected(1, BatchStatus.CONFLICT, "Name already exists.")};
+        when(courseService.createBatch(anyList())).thenReturn(BatchResultDTO.of(items));
+
+        mockMvc.perform(post("/api/course/batch")
+                        .content(objectMapper.writeValueAsString(List.of(new CourseDTO("Angular", 1l), new CourseDTO("Angular", 1l))))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[1].status").value("CONFLICT"));
+    }
+
+    @Test
+    public void exportCourses_WithNdjsonAccept_StreamsLines() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(courseService).exportAll(any());
+
+        for (MvcResult started : List.of(
+                mockMvc.perform(get("/api/course").accept(MediaType.APPLICATION_NDJSON)).andExpect(request().asyncStarted()).andReturn(),
+                mockMvc.perform(get("/api/course/export")).andExpect(request().asyncStarted()).andReturn())) {
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        }
+    }
+
+    @Test
+    public void importCourses_ReturnsAcceptedJob() throws Exception {
+        ImportJobDTO job = new ImportJobDTO("job-1", ImportStatus.RUNNING, null, 0, 0, 0, 0.0, 0.0, Instant.now(), null, List.of());
+        when(courseImportService.start(any())).thenReturn(job);
+        when(courseImportService.findJob("job-1")).thenReturn(job);
+
+        mockMvc.perform(multipart("/api/course/import")
+                        .file(new MockMultipartFile("file", "courses.csv", "text/csv", "name,category\nReact,Web".getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+        mockMvc.perform(get("/api/course/import/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("job-1"));
+    }
+
     @Test
     public void createCategory_WithInValidData_ReturnsBadRequest() throws Exception {
         CourseDTO course = new CourseDTO(null, CategoryConstants.CATEGORYENTITY.getId());
@@ -97,13 +163,13 @@ public class CourseControllerTest {
 
     @Test
     public void findCategoryById_WithValidId_ReturnsCategory() throws Exception {
-        when(courseService.findById(anyLong())).thenReturn(CourseConstants.COURSEENTITY);
+        when(courseService.findById(anyLong())).thenReturn(CourseConstants.COURSEVIEW);
         mockMvc.perform(get("/api/course/" + anyLong()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(CourseConstants.COURSEENTITY.getId()))
-                .andExpect(jsonPath("$.name").value(CourseConstants.COURSEENTITY.getName()))
-                .andExpect(jsonPath("$.category.id").value(CourseConstants.COURSEENTITY.getCategory().getId()))
-                .andExpect(jsonPath("$.category.name").value(CourseConstants.COURSEENTITY.getCategory().getName()));
+                .andExpect(jsonPath("$.id").value(CourseConstants.COURSEVIEW.id()))
+                .andExpect(jsonPath("$.name").value(CourseConstants.COURSEVIEW.name()))
+                .andExpect(jsonPath("$.category.id").value(CourseConstants.COURSEVIEW.category().id()))
+                .andExpect(jsonPath("$.category.name").value(CourseConstants.COURSEVIEW.category().name()));
     }
 
     @Test
@@ -114,12 +180,12 @@ public class CourseControllerTest {
     }
     @Test
     public void findAllCategory_ReturnListOfCategory() throws Exception {
-        List<Course> categories = List.of(
-                new Course(null, "ValidName1", CategoryConstants.CATEGORYENTITY),
-                new Course(null, "ValidName2", CategoryConstants.CATEGORYENTITY),
-                new Course(null, "ValidName3", CategoryConstants.CATEGORYENTITY),
-                new Course(null, "ValidName4", CategoryConstants.CATEGORYENTITY),
-                new Course(null, "ValidName5", CategoryConstants.CATEGORYENTITY)
+        List<CourseViewDTO> categories = List.of(
+                new CourseViewDTO(null, "ValidName1", CategoryConstants.CATEGORYVIEW),
+                new CourseViewDTO(null, "ValidName2", CategoryConstants.CATEGORYVIEW),
+                new CourseViewDTO(null, "ValidName3", CategoryConstants.CATEGORYVIEW),
+                new CourseViewDTO(null, "ValidName4", CategoryConstants.CATEGORYVIEW),
+                new CourseViewDTO(null, "ValidName5", CategoryConstants.CATEGORYVIEW)
         );
         when(courseService.findAll()).thenReturn(categories);
         mockMvc.perform(get("/api/course"))
@@ -132,14 +198,25 @@ public class CourseControllerTest {
                 .andExpect(jsonPath("$",hasSize(0)));
     }
 
+    @Test
+    public void findCoursesByIds_ReturnsCoursesInRequestOrder() throws Exception {
+        when(courseService.findByIds(List.of(2l, 1l))).thenReturn(List.of(new CourseViewDTO(2l, "React", CategoryConstants.CATEGORYVIEW), CourseConstants.COURSEVIEW));
+
+        mockMvc.perform(get("/api/course").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
     @Test
     public void findAllCoursePageable_ReturnPageListOfCourse() throws Exception {
-        List<Course> courses = List.of(
-                new Course(1L, "ValidName1", CategoryConstants.CATEGORYENTITY),
-                new Course(2L, "ValidName2", CategoryConstants.CATEGORYENTITY),
-                new Course(3L, "ValidName3", CategoryConstants.CATEGORYENTITY)
+        List<CourseViewDTO> courses = List.of(
+                new CourseViewDTO(1L, "ValidName1", CategoryConstants.CATEGORYVIEW),
+                new CourseViewDTO(2L, "ValidName2", CategoryConstants.CATEGORYVIEW),
+                new CourseViewDTO(3L, "ValidName3", CategoryConstants.CATEGORYVIEW)
         );
-        Page<Course> coursePages = new PageImpl<>(courses);
+        Page<CourseViewDTO> coursePages = new PageImpl<>(courses);
 
         when(courseService.findAllPageable(eq(null), any(PaginateDTO.class))).thenReturn(coursePages);
 
@@ -162,9 +239,24 @@ public class CourseControllerTest {
                 .andExpect(jsonPath("$.content.length()").value(0));
     }
 
+    @Test
+    public void findAllCourseByCursor_ReturnSliceWithNextCursor() throws Exception {
+        SliceDTO<CourseViewDTO> slice = new SliceDTO<>(List.of(CourseConstants.COURSEVIEW), 1, true, "MTpBbmd1bGFy");
+        when(courseService.findAllByCursor(eq(null), eq("abc"), any(PaginateDTO.class))).thenReturn(slice);
+
+        mockMvc.perform(get("/api/course/pageable/cursor")
+                        .param("size", "1")
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("MTpBbmd1bGFy"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
     @Test
     public void updateCategory_WithValidData_ReturnsCategory() throws Exception {
-        when(courseService.update(1l, CourseConstants.COURSEDTO)).thenReturn(CourseConstants.COURSEENTITY);
+        when(courseService.update(1l, CourseConstants.COURSEDTO)).thenReturn(CourseConstants.COURSEVIEW);
         mockMvc.perform(put("/api/course/1")
                         .content(objectMapper.writeValueAsString(CourseConstants.COURSEDTO))
                         .contentType(MediaType.APPLICATION_JSON))
@@ -0,0 +1,33 @@
+package com.marcoas.crudCursos.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementNormalizerTest {
+
+    @Test
+    public void normalize_WithInlineLiterals_RedactsStringsAndNumbers() {
+        String sut = StatementNormalizer.normalize("select * from Category where CatName = 'O''Reilly' and CatId > 42 and price < 10.5");
+
+        assertThat(sut).isEqualTo("select * from Category where CatName = ? and CatId > ? and price < ?");
+    }
+
+    @Test
+    public void normalize_WithGeneratedAliases_KeepsIdentifiersAndCollapsesWhitespace() {
+        String sut = StatementNormalizer.normalize("select c1_0.CouId,\n\t  c1_0.CouName from Course c1_0 fetch first ? rows only");
+
+        assertThat(sut).isEqualTo("select c1_0.CouId, c1_0.CouName from Course c1_0 fetch first ? rows only");
+    }
+
+    @Test
+    public void normalize_WithInListsOfDifferentSizes_ProducesSameStatement() {
+        String two = StatementNormalizer.normalize("select * from Course where CouId in (?, ?)");
+        String five = StatementNormalizer.normalize("select * from Course where CouId in (?,?,?,?,?)");
+        String literals = StatementNormalizer.normalize("select * from Course where CouId in (1, 2, 3)");
+
+        assertThat(two).isEqualTo("select * from Course where CouId in (?)");
+        assertThat(five).isEqualTo(two);
+        assertThat(literals).isEqualTo(two);
+    }
+}
@@ -0,0 +1,29 @@
+package com.marcoas.crudCursos.jdbc;
+
+import com.marcoas.crudCursos.dto.StatementTimingDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementStatisticsTest {
+
+    @Test
+    public void record_WithMoreStatementsThanTracked_GroupsOverflowUnderOther() {
+        StatementStatistics sut = new StatementStatistics(2);
+
+        sut.record("select 1", 1_000_000, false);
+        sut.record("select 2", 3_000_000, true);
+        sut.record("select 3", 5_000_000, false);
+        sut.record("select 4", 7_000_000, false);
+        sut.record("select 1", 1_000_000, false);
+
+        List<StatementTimingDTO> slowest = sut.slowest(10, StatementTimingDTO::totalMillis);
+        assertThat(slowest).extracting(StatementTimingDTO::sql).containsExactly(StatementStatistics.OTHER, "select 2", "select 1");
+        assertThat(slowest.get(0).count()).isEqualTo(2);
+        assertThat(slowest.get(0).maxMillis()).isEqualTo(7.0);
+        assertThat(slowest.get(1).slow()).isEqualTo(1);
+        assertThat(slowest.get(2).meanMillis()).isEqualTo(1.0);
+    }
+}
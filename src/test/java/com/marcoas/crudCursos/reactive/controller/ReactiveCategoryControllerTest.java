@@ -0,0 +1,59 @@
+package com.marcoas.crudCursos.reactive.controller;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.reactive.service.ReactiveCategoryService;
+import common.CategoryConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveCategoryController.class)
+@ActiveProfiles("test")
+public class ReactiveCategoryControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveCategoryService categoryService;
+
+    @Test
+    public void findById_WithExistingId_ReturnsCategory() {
+        when(categoryService.findById(1L)).thenReturn(Mono.just(CategoryConstants.CATEGORYVIEW));
+
+        webTestClient.get().uri("/api/category/1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.name").isEqualTo(CategoryConstants.CATEGORYVIEW.name());
+    }
+
+    @Test
+    public void findById_WithUnexistingId_ReturnsNotFound() {
+        when(categoryService.findById(anyLong())).thenReturn(Mono.error(new ApiError("Category not found.", HttpStatusCode.valueOf(404))));
+
+        webTestClient.get().uri("/api/category/99").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Category not found.");
+    }
+
+    @Test
+    public void findAll_ReturnsJsonArray() {
+        when(categoryService.findAll()).thenReturn(Flux.just(CategoryConstants.CATEGORYVIEW));
+
+        webTestClient.get().uri("/api/category").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo(CategoryConstants.CATEGORYVIEW.name());
+    }
+}
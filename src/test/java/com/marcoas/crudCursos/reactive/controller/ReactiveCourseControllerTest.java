@@ -0,0 +1,114 @@
+package com.marcoas.crudCursos.reactive.controller;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.reactive.service.ReactiveCourseService;
+import common.CourseConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveCourseController.class)
+@ActiveProfiles("test")
+public class ReactiveCourseControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveCourseService courseService;
+
+    @Test
+    public void findById_WithExistingId_ReturnsCourse() {
+        when(courseService.findById(1L)).thenReturn(Mono.just(CourseConstants.COURSEVIEW));
+
+        webTestClient.get().uri("/api/course/1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(CourseConstants.COURSEVIEW.id())
+                .jsonPath("$.name").isEqualTo(CourseConstants.COURSEVIEW.name())
+                .jsonPath("$.category.name").isEqualTo(CourseConstants.COURSEVIEW.category().name());
+    }
+
+    @Test
+    public void findById_WithUnexistingId_ReturnsNotFound() {
+        when(courseService.findById(anyLong())).thenReturn(Mono.error(new ApiError("Course not found.", HttpStatusCode.valueOf(404))));
+
+        webTestClient.get().uri("/api/course/99").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Course not found.");
+    }
+
+    @Test
+    public void findById_WithInvalidId_ReturnsBadRequest() {
+        webTestClient.get().uri("/api/course/abc").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void findByIds_ReturnsCoursesInRequestOrder() {
+        CourseViewDTO second = new CourseViewDTO(2L, "React", CourseConstants.COURSEVIEW.category());
+        when(courseService.findByIds(List.of(2L, 1L))).thenReturn(Mono.just(List.of(second, CourseConstants.COURSEVIEW)));
+
+        webTestClient.get().uri("/api/course?ids=2,1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(2)
+                .jsonPath("$[1].id").isEqualTo(1);
+    }
+
+    @Test
+    public void findAllPageable_ReturnsPage() {
+        when(courseService.findAllPageable(eq("ang"), any(PaginateDTO.class)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(CourseConstants.COURSEVIEW), new PaginateDTO(10L, 0L).buildPageable(), 1)));
+
+        webTestClient.get().uri("/api/course/pageable?size=10&page=0&filter=ang").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].name").isEqualTo(CourseConstants.COURSEVIEW.name())
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    public void findAllByCursor_ReturnsSlice() {
+        when(courseService.findAllByCursor(isNull(), eq("QW5ndWxhcg"), any(PaginateDTO.class)))
+                .thenReturn(Mono.just(new SliceDTO<>(List.of(CourseConstants.COURSEVIEW), 1, true, "QW5ndWxhcg")));
+
+        webTestClient.get().uri("/api/course/pageable/cursor?size=1&cursor=QW5ndWxhcg").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo(1)
+                .jsonPath("$.hasNext").isEqualTo(true)
+                .jsonPath("$.nextCursor").isEqualTo("QW5ndWxhcg");
+    }
+
+    @Test
+    public void exportAll_StreamsNdjson() {
+        CourseViewDTO second = new CourseViewDTO(2L, "React", CourseConstants.COURSEVIEW.category());
+        when(courseService.findAll()).thenReturn(Flux.just(CourseConstants.COURSEVIEW, second));
+
+        String body = webTestClient.get().uri("/api/course/export").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertThat(body.trim().split("\n")).hasSize(2);
+    }
+}
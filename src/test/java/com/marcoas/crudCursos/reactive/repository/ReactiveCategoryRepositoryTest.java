@@ -0,0 +1,62 @@
+package com.marcoas.crudCursos.reactive.repository;
+
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import common.ReactiveSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import(ReactiveCategoryRepository.class)
+@ActiveProfiles("test")
+public class ReactiveCategoryRepositoryTest {
+    @Autowired
+    private ReactiveCategoryRepository categoryRepository;
+    @Autowired
+    private DatabaseClient client;
+
+    @BeforeEach
+    public void setUp() {
+        ReactiveSchema.create(client);
+    }
+
+    @Test
+    public void findById_WithExistingId_ReturnsCategory() {
+        assertThat(categoryRepository.findById(2L).block().name()).isEqualTo("Dados");
+        assertThat(categoryRepository.findById(99L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    public void findAllById_ReturnsOnlyExistingCategories() {
+        List<CategoryViewDTO> sut = categoryRepository.findAllById(List.of(1L, 99L)).collectList().block();
+
+        assertThat(sut).extracting(CategoryViewDTO::name).containsExactly("Web");
+    }
+
+    @Test
+    public void findByNameContains_WithFilter_ReturnsMatchingPage() {
+        Page<CategoryViewDTO> sut = categoryRepository.findByNameContains("%we%", new PaginateDTO(10L, 0L).buildPageable()).block();
+
+        assertThat(sut.getContent()).extracting(CategoryViewDTO::name).containsExactly("Web");
+        assertThat(sut.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    public void findNextByNameContains_ReturnsSliceAfterLastName() {
+        Slice<CategoryViewDTO> sut = categoryRepository.findNextByNameContains(null, "", new PaginateDTO(1L, null).buildKeysetPageable()).block();
+
+        assertThat(sut.getContent()).extracting(CategoryViewDTO::name).containsExactly("Dados");
+        assertThat(sut.hasNext()).isTrue();
+    }
+}
@@ -0,0 +1,105 @@
+package com.marcoas.crudCursos.reactive.repository;
+
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import common.ReactiveSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import(ReactiveCourseRepository.class)
+@ActiveProfiles("test")
+public class ReactiveCourseRepositoryTest {
+    @Autowired
+    private ReactiveCourseRepository courseRepository;
+    @Autowired
+    private DatabaseClient client;
+
+    @BeforeEach
+    public void setUp() {
+        ReactiveSchema.create(client);
+    }
+
+    @Test
+    public void findById_WithExistingId_ReturnsCourseWithCategory() {
+        CourseViewDTO sut = courseRepository.findById(3L).block();
+
+        assertThat(sut).isNotNull();
+        assertThat(sut.name()).isEqualTo("Python");
+        assertThat(sut.category().id()).isEqualTo(2L);
+        assertThat(sut.category().name()).isEqualTo("Dados");
+    }
+
+    @Test
+    public void findById_WithUnexistingId_ReturnsEmpty() {
+        assertThat(courseRepository.findById(99L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    public void findAllById_ReturnsOnlyExistingCourses() {
+        List<CourseViewDTO> sut = courseRepository.findAllById(List.of(1L, 4L, 99L)).collectList().block();
+
+        assertThat(sut).extracting(CourseViewDTO::name).containsExactlyInAnyOrder("Angular", "Spark");
+    }
+
+    @Test
+    public void findCategoryIdsByIdIn_ReturnsCategoryOfEachCourse() {
+        Map<Long, Long> sut = courseRepository.findCategoryIdsByIdIn(List.of(1L, 3L, 99L)).block();
+
+        assertThat(sut).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L, 3L, 2L));
+    }
+
+    @Test
+    public void findByNameContainsOrCategory_NameContains_WithoutFilter_ReturnsPageAndTotal() {
+        Page<CourseViewDTO> sut = courseRepository.findByNameContainsOrCategory_NameContains(null, new PaginateDTO(2L, 1L).buildPageable()).block();
+
+        assertThat(sut.getContent()).hasSize(2);
+        assertThat(sut.getTotalElements()).isEqualTo(4);
+        assertThat(sut.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    public void findByNameContainsOrCategory_NameContains_WithSort_OrdersByWhitelistedColumns() {
+        PaginateDTO paginateDTO = new PaginateDTO(10L, 0L, null, "category,desc|name,asc")
+                .sortedBy(Map.of("id", "c.CouId", "name", "c.CouNormalizedName", "category", "c.CouCategoryId"));
+
+        Page<CourseViewDTO> sut = courseRepository.findByNameContainsOrCategory_NameContains(null, paginateDTO.buildPageable()).block();
+
+        assertThat(sut.getContent()).extracting(CourseViewDTO::name).containsExactly("Python", "Spark", "Angular", "React");
+    }
+
+    @Test
+    public void findByNameContainsOrCategory_NameContains_MatchesCourseOrCategoryName() {
+        Page<CourseViewDTO> byCourse = courseRepository.findByNameContainsOrCategory_NameContains("%ang%", new PaginateDTO(10L, 0L).buildPageable()).block();
+        Page<CourseViewDTO> byCategory = courseRepository.findByNameContainsOrCategory_NameContains("%dad%", new PaginateDTO(10L, 0L).buildPageable()).block();
+
+        assertThat(byCourse.getContent()).extracting(CourseViewDTO::name).containsExactly("Angular");
+        assertThat(byCategory.getContent()).extracting(CourseViewDTO::name).containsExactlyInAnyOrder("Python", "Spark");
+        assertThat(byCategory.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    public void findNextByNameContainsOrCategory_NameContains_ReturnsSliceOrderedByName() {
+        Slice<CourseViewDTO> first = courseRepository.findNextByNameContainsOrCategory_NameContains(null, "", new PaginateDTO(3L, null).buildKeysetPageable()).block();
+        Slice<CourseViewDTO> last = courseRepository.findNextByNameContainsOrCategory_NameContains(null, "Python", new PaginateDTO(3L, null).buildKeysetPageable()).block();
+        Slice<CourseViewDTO> filtered = courseRepository.findNextByNameContainsOrCategory_NameContains("%web%", "", new PaginateDTO(3L, null).buildKeysetPageable()).block();
+
+        assertThat(first.getContent()).extracting(CourseViewDTO::name).containsExactly("Angular", "Python", "React");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(CourseViewDTO::name).containsExactly("React", "Spark");
+        assertThat(last.hasNext()).isFalse();
+        assertThat(filtered.getContent()).extracting(CourseViewDTO::name).containsExactly("Angular", "React");
+    }
+}
@@ -0,0 +1,81 @@
+package com.marcoas.crudCursos.reactive.service;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.reactive.cache.ReactiveEntityCache;
+import com.marcoas.crudCursos.reactive.repository.ReactiveCategoryRepository;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static common.CategoryConstants.CATEGORYVIEW;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+public class ReactiveCategoryServiceTest {
+    private ReactiveCategoryService categoryService;
+    @Mock
+    private ReactiveCategoryRepository categoryRepository;
+    @Mock
+    private ReactiveEntityCache cache;
+    @Mock
+    private ErrorReporter errorReporter;
+
+    @BeforeEach
+    public void setUp() {
+        categoryService = new ReactiveCategoryService(categoryRepository, cache, errorReporter, 5);
+    }
+
+    @Test
+    public void findById_WithCachedCategory_DoesNotQueryDatabase() {
+        when(cache.get("categories", 1L)).thenReturn(Mono.just(CATEGORYVIEW));
+
+        assertThat(categoryService.findById(1L).block()).isEqualTo(CATEGORYVIEW);
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    public void findById_WithCacheMiss_LoadsAndCachesCategory() {
+        when(cache.get("categories", 1L)).thenReturn(Mono.empty());
+        when(cache.isMissing("categories", 1L)).thenReturn(Mono.just(false));
+        when(categoryRepository.findById(1L)).thenReturn(Mono.just(CATEGORYVIEW));
+        when(cache.put("categories", 1L, CATEGORYVIEW)).thenReturn(Mono.empty());
+
+        assertThat(categoryService.findById(1L).block()).isEqualTo(CATEGORYVIEW);
+        verify(cache).put("categories", 1L, CATEGORYVIEW);
+    }
+
+    @Test
+    public void findById_WithUnexistingId_MarksMissingAndReturnsNotFound() {
+        when(cache.get("categories", 9L)).thenReturn(Mono.empty());
+        when(cache.isMissing("categories", 9L)).thenReturn(Mono.just(false));
+        when(categoryRepository.findById(9L)).thenReturn(Mono.empty());
+        when(cache.markMissing("categories", 9L)).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> categoryService.findById(9L).block())
+                .isInstanceOf(ApiError.class).hasMessage("Category not found.");
+    }
+
+    @Test
+    public void findByIds_LoadsOnlyMissesAndKeepsRequestOrder() {
+        CategoryViewDTO second = new CategoryViewDTO(2L, "Dados");
+        when(cache.getAll("categories", List.of(2L, 1L))).thenReturn(Mono.just(Map.of(1L, CATEGORYVIEW)));
+        when(categoryRepository.findAllById(List.of(2L))).thenReturn(Flux.just(second));
+        when(cache.putAll(eq("categories"), anyMap())).thenReturn(Mono.empty());
+
+        assertThat(categoryService.findByIds(List.of(2L, 1L)).block()).containsExactly(second, CATEGORYVIEW);
+        verify(cache).putAll("categories", Map.of(2L, second));
+    }
+}
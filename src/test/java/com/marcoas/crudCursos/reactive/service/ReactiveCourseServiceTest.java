@@ -0,0 +1,130 @@
+package com.marcoas.crudCursos.reactive.service;
+
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.reactive.cache.ReactiveEntityCache;
+import com.marcoas.crudCursos.reactive.repository.ReactiveCourseRepository;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static common.CategoryConstants.CATEGORYVIEW;
+import static common.CourseConstants.COURSEVIEW;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+public class ReactiveCourseServiceTest {
+    private ReactiveCourseService courseService;
+    @Mock
+    private ReactiveCourseRepository courseRepository;
+    @Mock
+    private ReactiveEntityCache cache;
+    @Mock
+    private ErrorReporter errorReporter;
+
+    @BeforeEach
+    public void setUp() {
+        courseService = new ReactiveCourseService(courseRepository, cache, errorReporter, 5);
+    }
+
+    @Test
+    public void findById_WithCurrentCachedCourse_DoesNotQueryDatabase() {
+        when(cache.get("courses", 1L)).thenReturn(Mono.just(new CachedCourse(4, COURSEVIEW)));
+        when(cache.generations(List.of(CATEGORYVIEW.id()))).thenReturn(Mono.just(Map.of(CATEGORYVIEW.id(), 4L)));
+
+        assertThat(courseService.findById(1L).block()).isEqualTo(COURSEVIEW);
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    public void findById_WithStaleCachedCourse_ReloadsWithCurrentGeneration() {
+        when(cache.get("courses", 1L)).thenReturn(Mono.just(new CachedCourse(3, COURSEVIEW)));
+        when(cache.generations(List.of(CATEGORYVIEW.id()))).thenReturn(Mono.just(Map.of(CATEGORYVIEW.id(), 4L)));
+        when(cache.isMissing("courses", 1L)).thenReturn(Mono.just(false));
+        when(courseRepository.findCategoryIdById(1L)).thenReturn(Mono.just(CATEGORYVIEW.id()));
+        when(courseRepository.findById(1L)).thenReturn(Mono.just(COURSEVIEW));
+        when(cache.put(eq("courses"), eq(1L), any())).thenReturn(Mono.empty());
+
+        assertThat(courseService.findById(1L).block()).isEqualTo(COURSEVIEW);
+
+        ArgumentCaptor<Object> cached = ArgumentCaptor.forClass(Object.class);
+        verify(cache).put(eq("courses"), eq(1L), cached.capture());
+        assertThat(cached.getValue()).isEqualTo(new CachedCourse(4, COURSEVIEW));
+    }
+
+    @Test
+    public void findById_WithNegativeCacheEntry_ReturnsNotFoundWithoutQuery() {
+        when(cache.get("courses", 9L)).thenReturn(Mono.empty());
+        when(cache.isMissing("courses", 9L)).thenReturn(Mono.just(true));
+
+        assertThatThrownBy(() -> courseService.findById(9L).block())
+                .isInstanceOf(ApiError.class).hasMessage("Course not found.");
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    public void findById_WithUnexistingId_MarksMissingAndReturnsNotFound() {
+        when(cache.get("courses", 9L)).thenReturn(Mono.empty());
+        when(cache.isMissing("courses", 9L)).thenReturn(Mono.just(false));
+        when(courseRepository.findCategoryIdById(9L)).thenReturn(Mono.empty());
+        when(cache.markMissing("courses", 9L)).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> courseService.findById(9L).block())
+                .isInstanceOf(ApiError.class).hasMessage("Course not found.");
+        verify(cache).markMissing("courses", 9L);
+    }
+
+    @Test
+    public void findById_WhenCacheFails_ReportsAndReturnsApiError() {
+        RuntimeException failure = new IllegalStateException("redis down");
+        when(cache.get("courses", 1L)).thenReturn(Mono.error(failure));
+
+        assertThatThrownBy(() -> courseService.findById(1L).block())
+                .isInstanceOf(ApiError.class).hasMessage("Error searching course.");
+        verify(errorReporter).report("Error searching course.", failure);
+    }
+
+    @Test
+    public void findByIds_LoadsOnlyMissesAndKeepsRequestOrder() {
+        CourseViewDTO second = new CourseViewDTO(2L, "React", CATEGORYVIEW);
+        when(cache.getAll("courses", List.of(2L, 1L, 9L))).thenReturn(Mono.just(Map.of(1L, new CachedCourse(0, COURSEVIEW))));
+        when(cache.generations(anyCollection())).thenReturn(Mono.just(Map.of(CATEGORYVIEW.id(), 0L)));
+        when(courseRepository.findCategoryIdsByIdIn(List.of(2L, 9L))).thenReturn(Mono.just(Map.of(2L, CATEGORYVIEW.id())));
+        when(courseRepository.findAllById(List.of(2L, 9L))).thenReturn(Flux.just(second));
+        when(cache.putAll(eq("courses"), anyMap())).thenReturn(Mono.empty());
+
+        assertThat(courseService.findByIds(List.of(2L, 1L, 2L, 9L)).block()).containsExactly(second, COURSEVIEW);
+        verify(cache).putAll("courses", Map.of(2L, new CachedCourse(0, second)));
+    }
+
+    @Test
+    public void findByIds_WithTooManyIds_ReturnsApiError() {
+        assertThatThrownBy(() -> courseService.findByIds(List.of(1L, 2L, 3L, 4L, 5L, 6L)).block())
+                .isInstanceOf(ApiError.class).hasMessage("Batch must contain between 1 and 5 items.");
+        assertThatThrownBy(() -> courseService.findByIds(Collections.emptyList()).block())
+                .isInstanceOf(ApiError.class);
+        verifyNoInteractions(cache, courseRepository);
+    }
+
+    @Test
+    public void findAllByCursor_WithMalformedCursor_ReturnsApiError() {
+        assertThatThrownBy(() -> courseService.findAllByCursor(null, "%%%", new PaginateDTO(10L, null)).block())
+                .isInstanceOf(ApiError.class).hasMessage("Invalid cursor.");
+    }
+}
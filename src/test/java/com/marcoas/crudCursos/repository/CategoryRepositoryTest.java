@@ -1,16 +1,22 @@
 package com.marcoas.crudCursos.repository;
 
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
 import com.marcoas.crudCursos.model.Category;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static common.CategoryConstants.CATEGORYENTITYTOSAVE;
 import static org.assertj.core.api.Assertions.*;
@@ -37,8 +43,8 @@ public class CategoryRepositoryTest {
         Category emptyCategory = new Category();
         Category invalidCategory = new Category();
         invalidCategory.setName("  ");
-        assertThatThrownBy(() -> categoryRepository.save(emptyCategory)).isInstanceOf(RuntimeException.class);
-        assertThatThrownBy(() -> categoryRepository.save(invalidCategory)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> categoryRepository.saveAndFlush(emptyCategory)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> categoryRepository.saveAndFlush(invalidCategory)).isInstanceOf(RuntimeException.class);
     }
 
     @Test
@@ -49,7 +55,7 @@ public class CategoryRepositoryTest {
         testEntityManager.detach(categorySaved);
         categorySaved.setId(null);
 
-        assertThatThrownBy(() -> categoryRepository.save(categorySaved)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> categoryRepository.saveAndFlush(categorySaved)).isInstanceOf(RuntimeException.class);
     }
 
     @Test
@@ -106,6 +112,95 @@ public class CategoryRepositoryTest {
         assertThat(sut.getContent().size()).isLessThanOrEqualTo(categories.size());
     }
 
+    @Test
+    public void findNextByNameContains_WalksAllCategoriesInNameOrder() {
+        List.of("Delta", "Alpha", "Charlie", "Bravo", "Echo")
+                .forEach(name -> testEntityManager.persist(new Category(null, name)));
+
+        Slice<CategoryViewDTO> first = categoryRepository.findNextByNameContains(null, "", new PaginateDTO(2l, null).buildKeysetPageable());
+        CategoryViewDTO last = first.getContent().get(1);
+        Slice<CategoryViewDTO> second = categoryRepository.findNextByNameContains(null, last.name(), new PaginateDTO(2l, null).buildKeysetPageable());
+        last = second.getContent().get(1);
+        Slice<CategoryViewDTO> third = categoryRepository.findNextByNameContains(null, last.name(), new PaginateDTO(2l, null).buildKeysetPageable());
+
+        assertThat(first.getContent()).extracting(CategoryViewDTO::name).containsExactly("Alpha", "Bravo");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(CategoryViewDTO::name).containsExactly("Charlie", "Delta");
+        assertThat(third.getContent()).extracting(CategoryViewDTO::name).containsExactly("Echo");
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    public void findByNameContains_ReturnsViewSliceAndCount() {
+        List.of("Web", "Web Mobile", "Dados")
+                .forEach(name -> testEntityManager.persist(new Category(null, name)));
+
+        Slice<CategoryViewDTO> sut = categoryRepository.findByNameContains("%web%", new PaginateDTO(1l, 0l).buildPageable());
+
+        assertThat(sut.getContent()).hasSize(1);
+        assertThat(sut.hasNext()).isTrue();
+        assertThat(categoryRepository.countByNameContains("%web%")).isEqualTo(2);
+        assertThat(categoryRepository.countByNameContains(null)).isEqualTo(3);
+        assertThat(categoryRepository.findAllViews()).extracting(CategoryViewDTO::name).containsExactlyInAnyOrder("Web", "Web Mobile", "Dados");
+    }
+
+    @Test
+    public void findByNameContains_WithPrefixPattern_IgnoresAccentsCaseAndSpaces() {
+        List.of("Programação  Web", "Web", "Programacao Mobile")
+                .forEach(name -> testEntityManager.persist(new Category(null, name)));
+
+        Slice<CategoryViewDTO> sut = categoryRepository.findByNameContains(MatchMode.PREFIX.pattern(" PROGRAMAÇÃO "), new PaginateDTO(10l, 0l, null, "name").buildPageable());
+
+        assertThat(sut.getContent()).extracting(CategoryViewDTO::name).containsExactly("Programacao Mobile", "Programação  Web");
+        assertThat(categoryRepository.countByNameContains(MatchMode.PREFIX.pattern("programacao web"))).isEqualTo(1);
+        assertThat(categoryRepository.countByNameContains(MatchMode.PREFIX.pattern("web"))).isEqualTo(1);
+    }
+
+    @Test
+    public void equals_WithTransientCategories_UsesIdentityUntilPersisted() {
+        Category category = new Category(null, "Web");
+        Category sameName = new Category(null, "Web");
+
+        assertThat(category).isEqualTo(category).isNotEqualTo(sameName);
+        assertThat(new HashSet<>(List.of(category, sameName))).hasSize(2);
+
+        testEntityManager.persistAndFlush(category);
+        Category copy = new Category(category.getId(), "Outro nome");
+
+        assertThat(category).isEqualTo(copy).hasSameHashCodeAs(copy);
+        assertThat(Set.of(category)).contains(copy);
+    }
+
+    @Test
+    public void hashCode_WithTransientCategoryInSet_StaysFoundAfterPersist() {
+        Category category = new Category(null, "Web");
+        Set<Category> categories = new HashSet<>(Set.of(category));
+
+        testEntityManager.persistAndFlush(category);
+
+        assertThat(category.getId()).isNotNull();
+        assertThat(categories.contains(category)).isTrue();
+        assertThat(categories).contains(new Category(category.getId(), "Web"));
+    }
+
+    @Test
+    public void equals_WithProxyAndDetachedCategory_ComparesIdsWithoutInitializingProxy() {
+        Long id = testEntityManager.persistAndGetId(new Category(null, "Web"), Long.class);
+        Long otherId = testEntityManager.persistAndGetId(new Category(null, "Dados"), Long.class);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Category detached = testEntityManager.find(Category.class, id);
+        testEntityManager.clear();
+
+        Category proxy = categoryRepository.getReferenceById(id);
+
+        assertThat(proxy).isNotSameAs(detached).isEqualTo(detached).hasSameHashCodeAs(detached);
+        assertThat(detached).isEqualTo(proxy);
+        assertThat(proxy).isNotEqualTo(categoryRepository.getReferenceById(otherId));
+        assertThat(Set.of(detached)).contains(proxy);
+        assertThat(Hibernate.isInitialized(proxy)).isFalse();
+    }
+
     @Test
     public void updateCategory_WithValidData_ReturnCategory() {
         Category category = new Category(null, "ValidName1");
@@ -1,17 +1,26 @@
 package com.marcoas.crudCursos.repository;
 
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
 import com.marcoas.crudCursos.model.Category;
 import com.marcoas.crudCursos.model.Course;
+import common.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -24,6 +33,8 @@ public class CourseRepositoryTest {
     @Autowired
     private TestEntityManager testEntityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     public void createCourse_WithValidData_ReturnCourse() {
@@ -44,7 +55,7 @@ public class CourseRepositoryTest {
         Category savedCategory = testEntityManager.persistFlushFind(category);
 
         Course course = new Course(null, " ", savedCategory);
-        assertThatThrownBy(() -> courseRepository.save(course));
+        assertThatThrownBy(() -> courseRepository.saveAndFlush(course));
     }
 
     @Test
@@ -54,7 +65,7 @@ public class CourseRepositoryTest {
         Category savedCategory = testEntityManager.persistFlushFind(category);
 
         Course course = new Course(null, "", savedCategory);
-        assertThatThrownBy(() -> courseRepository.save(course));
+        assertThatThrownBy(() -> courseRepository.saveAndFlush(course));
     }
 
     @Test
@@ -64,7 +75,7 @@ public class CourseRepositoryTest {
         Category savedCategory = testEntityManager.persistFlushFind(category);
 
         Course course = new Course(null, null, savedCategory);
-        assertThatThrownBy(() -> courseRepository.save(course));
+        assertThatThrownBy(() -> courseRepository.saveAndFlush(course));
     }
 
     @Test
@@ -73,7 +84,7 @@ public class CourseRepositoryTest {
         category.setName("Test Category");
 
         Course course = new Course(null, "Valid", null);
-        assertThatThrownBy(() -> courseRepository.save(course));
+        assertThatThrownBy(() -> courseRepository.saveAndFlush(course));
     }
 
     @Test
@@ -87,7 +98,7 @@ public class CourseRepositoryTest {
         testEntityManager.detach(courseSaved);
         courseSaved.setId(null);
 
-        assertThatThrownBy(() -> courseRepository.save(courseSaved)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> courseRepository.saveAndFlush(courseSaved)).isInstanceOf(RuntimeException.class);
     }
 
     @Test
@@ -151,6 +162,129 @@ public class CourseRepositoryTest {
         assertThat(sut.getContent().size()).isLessThanOrEqualTo(courses.size());
     }
 
+    @Test
+    public void findNextByNameContainsOrCategory_NameContains_WalksFilteredCoursesInNameOrder() {
+        Category web = testEntityManager.persistFlushFind(new Category(null, "Web"));
+        Category data = testEntityManager.persistFlushFind(new Category(null, "Dados"));
+        List.of(new Course(null, "React", web),
+                new Course(null, "Angular", web),
+                new Course(null, "MySQL", data),
+                new Course(null, "Web Services", data))
+                .forEach(course -> testEntityManager.persist(course));
+
+        Slice<CourseViewDTO> first = courseRepository.findNextByNameContainsOrCategory_NameContains("%web%", "", new PaginateDTO(2l, null).buildKeysetPageable());
+        CourseViewDTO last = first.getContent().get(1);
+        Slice<CourseViewDTO> second = courseRepository.findNextByNameContainsOrCategory_NameContains("%web%", last.name(), new PaginateDTO(2l, null).buildKeysetPageable());
+
+        assertThat(first.getContent()).extracting(CourseViewDTO::name).containsExactly("Angular", "React");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(CourseViewDTO::name).containsExactly("Web Services");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    public void findAll_LoadsCategoriesInSameStatement() {
+        Category web = testEntityManager.persist(new Category(null, "Web"));
+        Category data = testEntityManager.persist(new Category(null, "Dados"));
+        testEntityManager.persist(new Course(null, "React", web));
+        testEntityManager.persist(new Course(null, "MySQL", data));
+        testEntityManager.persist(new Course(null, "Spark", data));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<String> sut = new SqlStatementCounter(entityManagerFactory).assertStatements(1, () ->
+                courseRepository.findAll().stream().map(course -> course.getCategory().getName()).toList());
+
+        assertThat(sut).containsExactlyInAnyOrder("Web", "Dados", "Dados");
+    }
+
+    @Test
+    public void findById_DoesNotLoadCategory() {
+        Category web = testEntityManager.persist(new Category(null, "Web"));
+        Course react = testEntityManager.persist(new Course(null, "React", web));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Course sut = new SqlStatementCounter(entityManagerFactory).assertStatements(1, () -> courseRepository.findById(react.getId()).orElseThrow());
+
+        assertThat(Hibernate.isInitialized(sut.getCategory())).isFalse();
+        assertThat(sut.getCategory().getId()).isEqualTo(web.getId());
+    }
+
+    @Test
+    public void equals_WithLazyProxies_ComparesIdsWithoutInitializing() {
+        Category web = testEntityManager.persist(new Category(null, "Web"));
+        Course react = testEntityManager.persist(new Course(null, "React", web));
+        Course transientCopy = new Course(null, "React", web);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Course detached = testEntityManager.find(Course.class, react.getId());
+        testEntityManager.clear();
+
+        Course proxy = courseRepository.getReferenceById(react.getId());
+        Category category = testEntityManager.find(Category.class, web.getId());
+
+        assertThat(proxy).isEqualTo(detached).hasSameHashCodeAs(detached);
+        assertThat(detached.getCategory()).isEqualTo(category);
+        assertThat(category).isEqualTo(detached.getCategory());
+        assertThat(transientCopy).isNotEqualTo(react);
+        assertThat(Hibernate.isInitialized(proxy)).isFalse();
+        assertThat(Hibernate.isInitialized(detached.getCategory())).isFalse();
+    }
+
+    @Test
+    public void hashCode_WithTransientCourseInSet_StaysFoundAfterPersist() {
+        Category web = testEntityManager.persist(new Category(null, "Web"));
+        Course react = new Course(null, "React", web);
+        Set<Course> courses = new HashSet<>(Set.of(react));
+
+        testEntityManager.persistAndFlush(react);
+
+        assertThat(react.getId()).isNotNull();
+        assertThat(courses.contains(react)).isTrue();
+    }
+
+    @Test
+    public void findViews_ProjectCoursesWithoutManagingEntities() {
+        Category web = testEntityManager.persistFlushFind(new Category(null, "Web"));
+        Category data = testEntityManager.persistFlushFind(new Category(null, "Dados"));
+        Course react = testEntityManager.persist(new Course(null, "React", web));
+        testEntityManager.persist(new Course(null, "Angular", web));
+        testEntityManager.persist(new Course(null, "MySQL", data));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Slice<CourseViewDTO> page = courseRepository.findByNameContainsOrCategory_NameContains("%web%", new PaginateDTO(1l, 0l).buildPageable());
+        Optional<CourseViewDTO> byId = courseRepository.findViewById(react.getId());
+        List<CourseViewDTO> all = courseRepository.findAllViews();
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(courseRepository.countByNameContainsOrCategory_NameContains("%web%")).isEqualTo(2);
+        assertThat(byId).contains(new CourseViewDTO(react.getId(), "React", web.getId(), "Web"));
+        assertThat(all).hasSize(3);
+        assertThat(courseRepository.findViewsByIdIn(List.of(react.getId(), -1L))).containsExactly(byId.get());
+        assertThat(testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    public void findIds_WithPrefixPattern_MatchesFoldedCourseOrCategoryPrefix() {
+        Category web = testEntityManager.persist(new Category(null, "Web"));
+        Category data = testEntityManager.persist(new Category(null, "Análise de Dados"));
+        Course angular = testEntityManager.persist(new Course(null, "Ângular", web));
+        testEntityManager.persist(new Course(null, "Curso de Angular", web));
+        Course excel = testEntityManager.persist(new Course(null, "Excel", data));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Slice<Long> prefix = courseRepository.findIdsByNameContainsOrCategory_NameContains(MatchMode.PREFIX.pattern(" AN "), new PaginateDTO(10l, 0l, null, "id").buildPageable());
+        Slice<Long> contains = courseRepository.findIdsByNameContainsOrCategory_NameContains(MatchMode.CONTAINS.pattern("ANGULAR"), new PaginateDTO(10l, 0l).buildPageable());
+
+        assertThat(prefix.getContent()).containsExactly(angular.getId(), excel.getId());
+        assertThat(contains.getContent()).hasSize(2);
+        assertThat(courseRepository.countByNameContainsOrCategory_NameContains(MatchMode.PREFIX.pattern("ana"))).isEqualTo(1);
+    }
+
     @Test
     public void updateCourse_WithValidData_ReturnCourse() {
         Category category = new Category(null, "ValidName");
@@ -203,4 +337,16 @@ public class CourseRepositoryTest {
     public void deleteCourse_WithInValidId_ThrowsException() {
         assertThatThrownBy(() -> courseRepository.deleteById(null)).isInstanceOf(RuntimeException.class);
     }
+
+    @Test
+    public void findCategoryIdsByIdIn_ReturnsCourseAndCategoryIds() {
+        Category savedCategory = testEntityManager.persistFlushFind(new Category(null, "Test Category"));
+        Course course = testEntityManager.persistFlushFind(new Course(null, "Test Course", savedCategory));
+
+        List<Object[]> sut = courseRepository.findCategoryIdsByIdIn(List.of(course.getId(), -1L));
+
+        assertThat(sut).hasSize(1);
+        assertThat(sut.get(0)).containsExactly(course.getId(), savedCategory.getId());
+        assertThat(courseRepository.findCategoryIdById(course.getId())).contains(savedCategory.getId());
+    }
 }
@@ -0,0 +1,30 @@
+package com.marcoas.crudCursos.repository;
+
+import com.marcoas.crudCursos.model.Category;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TableStatistics.class)
+@ActiveProfiles("test")
+public class TableStatisticsTest {
+    @Autowired
+    private TableStatistics tableStatistics;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void estimateRows_ReturnsRowCountFromTableStatistics() {
+        testEntityManager.persist(new Category(null, "Web"));
+        testEntityManager.persist(new Category(null, "Dados"));
+        testEntityManager.flush();
+
+        assertThat(tableStatistics.estimateRows("Category")).isEqualTo(2);
+    }
+}
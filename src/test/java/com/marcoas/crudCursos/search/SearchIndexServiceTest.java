@@ -0,0 +1,161 @@
+package com.marcoas.crudCursos.search;
+
+import com.marcoas.crudCursos.cache.CacheInvalidation;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import common.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SearchIndexService.class, InMemoryCacheInvalidationBus.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SearchIndexServiceTest {
+    private static final List<String> FILTERS = List.of("", "a", "an", "ang", "ANGULAR", "ção", "CAO", "avancado", "dados ", " web", "x", "tecnologia", "spring boot", "banco  de");
+
+    @Autowired
+    private SearchIndexService searchIndex;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private InMemoryCacheInvalidationBus invalidationBus;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository.deleteAll();
+        categoryRepository.deleteAll();
+        Category ti = categoryRepository.save(new Category(null, "Tecnologia da Informação"));
+        Category data = categoryRepository.save(new Category(null, "  Banco de Dados  "));
+        Category web = categoryRepository.save(new Category(null, "Web"));
+        courseRepository.saveAll(List.of(
+                new Course(null, "Angular", web),
+                new Course(null, "  AngularJS Avançado ", web),
+                new Course(null, "Spring Boot", ti),
+                new Course(null, "Modelagem de Dados", data),
+                new Course(null, "Administração", ti)));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    public void findCourseIds_ReturnsSameIdsAsLikeQuery() {
+        for (String filter : FILTERS) {
+            long[] expected = courseRepository.findByNameContainsOrCategory_NameContains(MatchMode.CONTAINS.pattern(filter), Pageable.unpaged())
+                    .stream().mapToLong(CourseViewDTO::id).sorted().toArray();
+            assertThat(searchIndex.findCourseIds(filter)).as("filter '%s'", filter).containsExactly(expected);
+        }
+    }
+
+    @Test
+    public void findCategoryIds_ReturnsSameIdsAsLikeQuery() {
+        for (String filter : FILTERS) {
+            long[] expected = categoryRepository.findByNameContains(MatchMode.CONTAINS.pattern(filter), Pageable.unpaged())
+                    .stream().mapToLong(CategoryViewDTO::id).sorted().toArray();
+            assertThat(searchIndex.findCategoryIds(filter)).as("filter '%s'", filter).containsExactly(expected);
+        }
+    }
+
+    @Test
+    public void findCourseIds_WithLikeWildcards_FallsBackToDatabase() {
+        assertThat(searchIndex.findCourseIds("a%b")).isNull();
+        assertThat(searchIndex.findCourseIds("a_b")).isNull();
+        assertThat(searchIndex.findCourseIds(null)).isNull();
+    }
+
+    @Test
+    public void courseSaved_OutsideTransaction_UpdatesIndexImmediately() {
+        Category web = categoryRepository.findAll().stream().filter(c -> c.getName().equals("Web")).findFirst().orElseThrow();
+        Course react = courseRepository.save(new Course(null, "React", web));
+        searchIndex.courseSaved(react.getId(), react.getName(), web.getId());
+
+        assertThat(Arrays.stream(searchIndex.findCourseIds("react")).boxed()).containsExactly(react.getId());
+
+        searchIndex.courseDeleted(react.getId());
+        assertThat(searchIndex.findCourseIds("react")).isEmpty();
+    }
+
+    @Test
+    public void courseSaved_OnAnotherNode_RefreshesIndexFromDatabase() {
+        SearchIndexService otherNode = new SearchIndexService(courseRepository, categoryRepository, transactionManager, invalidationBus);
+        otherNode.rebuild();
+        Category web = categoryRepository.findAll().stream().filter(c -> c.getName().equals("Web")).findFirst().orElseThrow();
+        Course react = courseRepository.save(new Course(null, "React", web));
+        searchIndex.courseSaved(react.getId(), react.getName(), web.getId());
+
+        assertThat(Arrays.stream(otherNode.findCourseIds("react")).boxed()).containsExactly(react.getId());
+
+        web.setName("Frontend");
+        categoryRepository.save(web);
+        searchIndex.categorySaved(web.getId(), web.getName());
+
+        assertThat(Arrays.stream(otherNode.findCourseIds("frontend")).boxed()).contains(react.getId());
+        assertThat(otherNode.findCategoryIds("web")).isEmpty();
+
+        courseRepository.delete(react);
+        searchIndex.courseDeleted(react.getId());
+
+        assertThat(otherNode.findCourseIds("react")).isEmpty();
+    }
+
+    @Test
+    public void courseSaved_InTransaction_PublishesOneChangeAfterCommit() {
+        List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+        invalidationBus.subscribe(invalidation -> {
+            if (SearchIndexService.CACHE_NAME.equals(invalidation.cacheName())) {
+                published.add(invalidation);
+            }
+        });
+        Category web = categoryRepository.findAll().stream().filter(c -> c.getName().equals("Web")).findFirst().orElseThrow();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Long> ids = transaction.execute(status -> {
+            Course react = courseRepository.save(new Course(null, "React", web));
+            Course vue = courseRepository.save(new Course(null, "Vue", web));
+            searchIndex.courseSaved(react.getId(), react.getName(), web.getId());
+            searchIndex.courseSaved(vue.getId(), vue.getName(), web.getId());
+            assertThat(published).isEmpty();
+            assertThat(searchIndex.findCourseIds("react")).isEmpty();
+            return List.of(react.getId(), vue.getId());
+        });
+
+        assertThat(published).extracting(CacheInvalidation::key).containsExactly("course:" + ids.get(0) + "," + ids.get(1));
+        assertThat(Arrays.stream(searchIndex.findCourseIds("react")).boxed()).containsExactly(ids.get(0));
+
+        published.clear();
+        transaction.executeWithoutResult(status -> {
+            Course svelte = courseRepository.save(new Course(null, "Svelte", web));
+            searchIndex.courseSaved(svelte.getId(), svelte.getName(), web.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(published).isEmpty();
+        assertThat(searchIndex.findCourseIds("svelte")).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.marcoas.crudCursos.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void search_WithTrigramQuery_ReturnsOnlyContainingIds() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "angular", null);
+        index.put(2, "angularjs avançado", null);
+        index.put(3, "java", null);
+
+        assertThat(index.search("gula", List.of())).containsExactly(1, 2);
+        assertThat(index.search("rjs av", List.of())).containsExactly(2);
+        assertThat(index.search("xyz", List.of())).isEmpty();
+    }
+
+    @Test
+    public void search_WithShortQuery_ScansAllNames() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "angular", null);
+        index.put(2, "java", null);
+
+        assertThat(index.search("a", List.of())).containsExactly(1, 2);
+        assertThat(index.search("ja", List.of())).containsExactly(2);
+        assertThat(index.search("", List.of())).containsExactly(1, 2);
+    }
+
+    @Test
+    public void search_WithMatchingGroup_ReturnsGroupMembers() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "angular", 10L);
+        index.put(2, "java", 20L);
+        index.put(3, "spring", 20L);
+
+        assertThat(index.search("angular", List.of(20L))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void put_WithExistingId_ReplacesNameAndGroup() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "angular", 10L);
+        index.put(1, "react", 20L);
+
+        assertThat(index.search("angular", List.of(10L))).isEmpty();
+        assertThat(index.search("react", List.of())).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void remove_DropsIdFromResults() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "angular", 10L);
+        index.remove(1);
+
+        assertThat(index.search("angular", List.of(10L))).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    public void put_ManyReplacements_CompactsWithoutLosingEntries() {
+        TrigramIndex index = new TrigramIndex();
+        for (int round = 0; round < 5; round++) {
+            for (long id = 0; id < 1000; id++) {
+                index.put(id, "course " + id + " round " + round, id % 7);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("round 4", List.of())).hasSize(1000);
+        assertThat(index.search("round 3", List.of())).isEmpty();
+        assertThat(index.search("course 999 ", List.of())).containsExactly(999);
+    }
+}
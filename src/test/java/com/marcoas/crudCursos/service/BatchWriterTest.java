@@ -0,0 +1,87 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({BatchWriter.class, ErrorReporter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BatchWriterTest {
+    @Autowired
+    private BatchWriter batchWriter;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        categoryRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void insert_WithManyRows_CreatesAllInJdbcBatches() {
+        int rows = 120;
+        Map<Integer, Supplier<Category>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < rows; i++) {
+            String name = "Categoria " + i;
+            pending.put(i, () -> new Category(null, name));
+        }
+        List<Category> saved = new CopyOnWriteArrayList<>();
+        BatchItemDTO[] items = new BatchItemDTO[rows];
+
+        batchWriter.insert(pending, categoryRepository, Category::getId, saved::add, items, "conflict", "error");
+
+        assertThat(items).allMatch(item -> item.status() == BatchStatus.CREATED);
+        assertThat(Arrays.stream(items).map(BatchItemDTO::id).distinct()).hasSize(rows);
+        assertThat(saved).hasSize(rows);
+        assertThat(categoryRepository.count()).isEqualTo(rows);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(rows / 5);
+    }
+
+    @Test
+    public void insert_WithConflictInChunk_CreatesOtherRowsAndReportsConflict() {
+        categoryRepository.save(new Category(null, "Web"));
+        Map<Integer, Supplier<Category>> pending = new LinkedHashMap<>();
+        pending.put(0, () -> new Category(null, "Dados"));
+        pending.put(2, () -> new Category(null, "Web"));
+        pending.put(3, () -> new Category(null, "Mobile"));
+        BatchItemDTO[] items = new BatchItemDTO[4];
+
+        batchWriter.insert(pending, categoryRepository, Category::getId, category -> {}, items, "conflict", "error");
+
+        assertThat(items[0].status()).isEqualTo(BatchStatus.CREATED);
+        assertThat(items[1]).isNull();
+        assertThat(items[2].status()).isEqualTo(BatchStatus.CONFLICT);
+        assertThat(items[2].message()).isEqualTo("conflict");
+        assertThat(items[3].status()).isEqualTo(BatchStatus.CREATED);
+        assertThat(categoryRepository.findAll()).extracting(Category::getName).containsExactlyInAnyOrder("Web", "Dados", "Mobile");
+    }
+}
@@ -1,28 +1,50 @@
 package com.marcoas.crudCursos.service;
 
 import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
 import com.marcoas.crudCursos.dto.CategoryDTO;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
+import com.marcoas.crudCursos.dto.KeysetDTO;
 import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
 import com.marcoas.crudCursos.model.Category;
 import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import common.InMemoryWriteGenerations;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static common.CategoryConstants.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +56,24 @@ public class CategoryServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private SearchIndexService searchIndex;
+    @Mock
+    private BatchWriter batchWriter;
+    @Mock
+    private ErrorReporter errorReporter;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+    @Spy
+    private PageTotals pageTotals = new PageTotals(null);
+    @Spy
+    private PageCache pageCache = new PageCache(new InMemoryWriteGenerations(), 0);
 
     @Test
     public void createCategory_WithValidData_ReturnsCategory() {
         when(categoryRepository.save(any(Category.class))).thenReturn(CATEGORYENTITY);
-        Category sut = categoryService.create(CATEGORYDTO);
-        assertThat(sut).isEqualTo(CATEGORYENTITY);
+        CategoryViewDTO sut = categoryService.create(CATEGORYDTO);
+        assertThat(sut).isEqualTo(CATEGORYVIEW);
     }
 
     @Test
@@ -62,15 +96,60 @@ public class CategoryServiceTest {
 
     @Test
     public void findCategoryById_WithValidId_ReturnsCategory() {
-        when(categoryRepository.findById(anyLong())).thenReturn(Optional.of(CATEGORYENTITY));
-        Category sut = categoryService.findById(1L);
-        assertThat(sut).isEqualTo(CATEGORYENTITY);
+        when(categoryRepository.findViewById(anyLong())).thenReturn(Optional.of(CATEGORYVIEW));
+        CategoryViewDTO sut = categoryService.findById(1L);
+        assertThat(sut).isEqualTo(CATEGORYVIEW);
+        verify(categoryRepository, never()).findById(anyLong());
     }
 
     @Test
     public void findCategoryById_WithInvalidId_ThrowsException() {
-        when(categoryRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(categoryRepository.findViewById(anyLong())).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> categoryService.findById(1L)).isInstanceOf(ApiError.class);
+    }
+
+    @Test
+    public void findCategoryById_WithKnownMissingId_DoesNotQueryRepository() {
+        when(categoryRepository.findViewById(1L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> categoryService.findById(1L)).isInstanceOf(ApiError.class);
+        assertThatThrownBy(() -> categoryService.findById(1L)).isInstanceOf(ApiError.class)
+                .hasMessage("Category not found.");
+        verify(categoryRepository, times(1)).findViewById(1L);
+    }
+
+    @Test
+    public void findCategoriesByIds_LoadsOnlyMissesAndKeepsRequestOrder() {
+        CategoryViewDTO web = new CategoryViewDTO(3L, "Web");
+        cacheManager.getCache("categories").put(2L, new CategoryViewDTO(2L, "Dados"));
+        when(categoryRepository.findViewsByIdIn(List.of(3L, 1L))).thenReturn(List.of(CATEGORYVIEW, web));
+
+        List<CategoryViewDTO> sut = categoryService.findByIds(List.of(3L, 2L, 1L));
+
+        assertThat(sut).extracting(CategoryViewDTO::id).containsExactly(3L, 2L, 1L);
+        assertThat(cacheManager.getCache("categories").get(3L).get()).isEqualTo(web);
+    }
+
+    @Test
+    public void createCategory_EvictsMissingEntryForNewId() {
+        cacheManager.getCache("categories-missing").put(CATEGORYENTITY.getId(), Boolean.TRUE);
+        when(categoryRepository.save(any(Category.class))).thenReturn(CATEGORYENTITY);
+        categoryService.create(CATEGORYDTO);
+        assertThat(cacheManager.getCache("categories-missing").get(CATEGORYENTITY.getId())).isNull();
+    }
+
+    @Test
+    public void createCategory_InTransaction_EvictsMissingEntryAfterCommit() {
+        cacheManager.getCache("categories-missing").put(CATEGORYENTITY.getId(), Boolean.TRUE);
+        when(categoryRepository.save(any(Category.class))).thenReturn(CATEGORYENTITY);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            categoryService.create(CATEGORYDTO);
+            assertThat(cacheManager.getCache("categories-missing").get(CATEGORYENTITY.getId())).isNotNull();
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cacheManager.getCache("categories-missing").get(CATEGORYENTITY.getId())).isNull();
     }
 
     @Test
@@ -80,14 +159,14 @@ public class CategoryServiceTest {
 
         PaginateDTO paginateDTO = new PaginateDTO(size, page);
 
-        List<Category> cat = List.of(
-                new Category(1l, "1"),
-                new Category(2l, "2"),
-                new Category(3l, "3"));
-        Page<Category> result = new PageImpl<>(cat);
+        List<CategoryViewDTO> cat = List.of(
+                new CategoryViewDTO(1l, "1"),
+                new CategoryViewDTO(2l, "2"),
+                new CategoryViewDTO(3l, "3"));
+        Page<CategoryViewDTO> result = new PageImpl<>(cat);
         when(categoryRepository.findByNameContains(any(), any(Pageable.class))).thenReturn(result);
 
-        Page<Category> resultPage = categoryService.findAllPageable(null, paginateDTO);
+        Page<CategoryViewDTO> resultPage = categoryService.findAllPageable(null, paginateDTO);
 
         assertThat(resultPage).isNotNull();
         assertThat(Long.valueOf(resultPage.getNumber())).isEqualTo(page);
@@ -101,15 +180,72 @@ public class CategoryServiceTest {
         assertThatThrownBy(() -> categoryService.findAllPageable(null, paginateDTO)).isInstanceOf(ApiError.class);
     }
 
+    @Test
+    public void findCategoryByPageable_WithIndexedFilter_LoadsOnlyPageIds() {
+        when(searchIndex.findCategoryIds("tec")).thenReturn(new long[]{1l, 4l});
+        when(searchIndex.loadPage(any(), any(Pageable.class), any(), any())).thenCallRealMethod();
+        when(categoryRepository.findViewsByIdIn(List.of(4l))).thenReturn(List.of(new CategoryViewDTO(4l, "Tecnologia")));
+
+        Page<CategoryViewDTO> sut = categoryService.findAllPageable("tec", new PaginateDTO(1l, 1l));
+
+        assertThat(sut.getTotalElements()).isEqualTo(2);
+        assertThat(sut.getContent()).extracting(CategoryViewDTO::id).containsExactly(4l);
+        verify(categoryRepository, never()).findByNameContains(any(), any(Pageable.class));
+    }
+
+    @Test
+    public void findCategoryByCursor_WithNextSlice_ReturnsCursorOfLastItem() {
+        Slice<CategoryViewDTO> slice = new SliceImpl<>(List.of(new CategoryViewDTO(1l, "Alpha"), new CategoryViewDTO(7l, "Bravo")), PageRequest.of(0, 2), true);
+        when(categoryRepository.findNextByNameContains(eq("%a%"), eq("Al"), any(Pageable.class))).thenReturn(slice);
+
+        SliceDTO<CategoryViewDTO> sut = categoryService.findAllByCursor("a", new KeysetDTO("Al").encode(), new PaginateDTO(2l, null));
+
+        assertThat(sut.content()).hasSize(2);
+        assertThat(sut.hasNext()).isTrue();
+        assertThat(KeysetDTO.decode(sut.nextCursor())).isEqualTo(new KeysetDTO("Bravo"));
+    }
+
+    @Test
+    public void createCategoryBatch_WithMixedRows_InsertsOnlyValidAndNewNames() {
+        List<CategoryDTO> dtos = Arrays.asList(new CategoryDTO("Web"), INVALIDCATEGORYDTO3, new CategoryDTO("Dados"), new CategoryDTO("Web"), null);
+        when(categoryRepository.findNamesByNameIn(Set.of("Web", "Dados"))).thenReturn(List.of("Dados"));
+        doAnswer(invocation -> {
+            BatchItemDTO[] items = invocation.getArgument(4);
+            items[0] = BatchItemDTO.created(0, 10l);
+            return null;
+        }).when(batchWriter).insert(any(), eq(categoryRepository), any(), any(), any(), any(), any());
+
+        BatchResultDTO sut = categoryService.createBatch(dtos);
+
+        ArgumentCaptor<Map<Integer, Supplier<Category>>> pending = ArgumentCaptor.forClass(Map.class);
+        verify(batchWriter).insert(pending.capture(), eq(categoryRepository), any(), any(), any(), any(), any());
+        assertThat(pending.getValue()).containsOnlyKeys(0);
+        assertThat(sut.created()).isEqualTo(1);
+        assertThat(sut.rejected()).isEqualTo(4);
+        assertThat(sut.items()).extracting(BatchItemDTO::status)
+                .containsExactly(BatchStatus.CREATED, BatchStatus.INVALID, BatchStatus.CONFLICT, BatchStatus.CONFLICT, BatchStatus.INVALID);
+    }
+
+    @Test
+    public void createCategoryBatch_WithInvalidSize_ThrowsException() {
+        doThrow(new ApiError("Batch must contain between 1 and 1000 items.")).when(batchWriter).checkSize(List.of());
+        assertThatThrownBy(() -> categoryService.createBatch(List.of())).isInstanceOf(ApiError.class);
+    }
+
+    @Test
+    public void findCategoryByCursor_WithInvalidCursor_ThrowsException() {
+        assertThatThrownBy(() -> categoryService.findAllByCursor(null, "not a cursor", new PaginateDTO(2l, null))).isInstanceOf(ApiError.class);
+    }
+
     @Test
     public void findAllCategory_ReturnsList() {
-        List<Category> cat = List.of(
-                CATEGORYENTITY,
-                CATEGORYENTITY,
-                CATEGORYENTITY);
-        when(categoryRepository.findAll()).thenReturn(cat);
+        List<CategoryViewDTO> cat = List.of(
+                CATEGORYVIEW,
+                CATEGORYVIEW,
+                CATEGORYVIEW);
+        when(categoryRepository.findAllViews()).thenReturn(cat);
 
-        List<Category> result = categoryService.findAll();
+        List<CategoryViewDTO> result = categoryService.findAll();
 
         assertThat(result).isEqualTo(cat);
     }
@@ -117,17 +253,17 @@ public class CategoryServiceTest {
     @Test
     public void findAllCategory_ReturnsListEmpty() {
 
-        List<Category> cat = List.of();
-        when(categoryRepository.findAll()).thenReturn(cat);
+        List<CategoryViewDTO> cat = List.of();
+        when(categoryRepository.findAllViews()).thenReturn(cat);
 
-        List<Category> result = categoryService.findAll();
+        List<CategoryViewDTO> result = categoryService.findAll();
 
         assertThat(result).isEqualTo(cat);
     }
 
     @Test
     public void findAllCategory_ThrowsException() {
-        when(categoryRepository.findAll()).thenThrow(RuntimeException.class);
+        when(categoryRepository.findAllViews()).thenThrow(RuntimeException.class);
         assertThatThrownBy(() -> categoryService.findAll()).isInstanceOf(ApiError.class);
     }
 
@@ -142,9 +278,10 @@ public class CategoryServiceTest {
         when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 
-        Category updatedCategory = categoryService.update(categoryId, dto);
+        CategoryViewDTO updatedCategory = categoryService.update(categoryId, dto);
         assertThat(updatedCategory).isNotNull();
-        assertThat(updatedCategory.getName()).isEqualTo(dto.name());
+        assertThat(updatedCategory.name()).isEqualTo(dto.name());
+        assertThat(cacheManager.getCache("categories").get(categoryId).get()).isEqualTo(updatedCategory);
     }
 
     @Test
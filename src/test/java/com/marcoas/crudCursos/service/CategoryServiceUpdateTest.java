@@ -0,0 +1,94 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.cache.WriteGenerations;
+import com.marcoas.crudCursos.dto.CategoryDTO;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.repository.TableStatistics;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import common.InMemoryWriteGenerations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({CategoryService.class, PageTotals.class, PageCache.class, TableStatistics.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryServiceUpdateTest {
+    @TestConfiguration
+    @EnableCaching(proxyTargetClass = true)
+    static class Config {
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        public WriteGenerations writeGenerations() {
+            return new InMemoryWriteGenerations();
+        }
+    }
+
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockBean
+    private SearchIndexService searchIndex;
+    @MockBean
+    private BatchWriter batchWriter;
+    @MockBean
+    private NdjsonExporter exporter;
+    @MockBean
+    private ErrorReporter errorReporter;
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository.deleteAll();
+        categoryRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    public void update_WithDuplicateName_RollsBackWithoutCachingNewName() {
+        Category web = categoryRepository.save(new Category(null, "Web"));
+        categoryRepository.save(new Category(null, "Dados"));
+        categoryService.findById(web.getId());
+
+        assertThatThrownBy(() -> categoryService.update(web.getId(), new CategoryDTO("Dados")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(categoryService.findById(web.getId()).name()).isEqualTo("Web");
+    }
+
+    @Test
+    public void update_AfterCommit_CachesNewName() {
+        Category web = categoryRepository.save(new Category(null, "Web"));
+        categoryService.findById(web.getId());
+
+        categoryService.update(web.getId(), new CategoryDTO("Frontend"));
+
+        assertThat(categoryService.findById(web.getId()).name()).isEqualTo("Frontend");
+    }
+}
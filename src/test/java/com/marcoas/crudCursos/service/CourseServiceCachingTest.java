@@ -0,0 +1,124 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.TwoTierCacheManager;
+import com.marcoas.crudCursos.config.CacheConfig;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import common.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static common.CourseConstants.COURSEVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+public class CourseServiceCachingTest {
+    private static final int THREADS = 32;
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    @Import(CourseService.class)
+    static class Config {
+        @Bean
+        public CacheManager cacheManager(CategoryGenerations categoryGenerations) {
+            TwoTierCacheManager cacheManager = new TwoTierCacheManager(new ConcurrentMapCacheManager(), new InMemoryCacheInvalidationBus(), 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+            CacheConfig.registerEntryValidators(cacheManager, categoryGenerations);
+            return cacheManager;
+        }
+    }
+
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockBean
+    private CourseRepository courseRepository;
+    @MockBean
+    private CategoryService categoryService;
+    @MockBean
+    private SearchIndexService searchIndex;
+    @MockBean
+    private BatchWriter batchWriter;
+    @MockBean
+    private NdjsonExporter exporter;
+    @MockBean
+    private PageTotals pageTotals;
+    @MockBean
+    private PageCache pageCache;
+    @MockBean
+    private CategoryGenerations categoryGenerations;
+    @MockBean
+    private ErrorReporter errorReporter;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCache("courses").clear();
+        when(courseRepository.findCategoryIdById(1l)).thenReturn(Optional.of(1l));
+    }
+
+    @Test
+    public void findById_WithParallelMisses_QueriesRepositoryOnce() throws Exception {
+        when(courseRepository.findViewById(1l)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return Optional.of(COURSEVIEW);
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<CourseViewDTO>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return courseService.findById(1l);
+                }));
+            }
+            start.countDown();
+            for (Future<CourseViewDTO> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(COURSEVIEW);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(courseRepository, times(1)).findViewById(1l);
+        assertThat(((TwoTierCacheManager) cacheManager).getStatistics("courses").getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    public void findById_AfterCategoryGenerationBump_ReloadsCourse() {
+        when(courseRepository.findViewById(1l)).thenReturn(Optional.of(COURSEVIEW));
+
+        courseService.findById(1l);
+        courseService.findById(1l);
+        when(categoryGenerations.current(1l)).thenReturn(1l);
+        courseService.findById(1l);
+        courseService.findById(1l);
+
+        verify(courseRepository, times(2)).findViewById(1l);
+        assertThat(((TwoTierCacheManager) cacheManager).getStatistics("courses").getStaleHits()).isEqualTo(1);
+    }
+}
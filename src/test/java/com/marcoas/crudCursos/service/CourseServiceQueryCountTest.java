@@ -0,0 +1,168 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.cache.WriteGenerations;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.SliceDTO;
+import com.marcoas.crudCursos.dto.TotalMode;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.repository.TableStatistics;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import common.InMemoryWriteGenerations;
+import common.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CourseService.class, PageTotals.class, PageCache.class, TableStatistics.class})
+@ActiveProfiles("test")
+public class CourseServiceQueryCountTest {
+    @TestConfiguration
+    static class Config {
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        public WriteGenerations writeGenerations() {
+            return new InMemoryWriteGenerations();
+        }
+    }
+
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private WriteGenerations writeGenerations;
+    @MockBean
+    private CategoryService categoryService;
+    @MockBean
+    private CategoryGenerations categoryGenerations;
+    @MockBean
+    private SearchIndexService searchIndex;
+    @MockBean
+    private BatchWriter batchWriter;
+    @MockBean
+    private NdjsonExporter exporter;
+    @MockBean
+    private ErrorReporter errorReporter;
+
+    private SqlStatementCounter statements;
+
+    @BeforeEach
+    public void setUp() {
+        List<Category> categories = List.of("Web", "Dados", "Mobile").stream()
+                .map(name -> testEntityManager.persist(new Category(null, name)))
+                .toList();
+        for (int i = 0; i < 12; i++) {
+            testEntityManager.persist(new Course(null, "Curso " + i, categories.get(i % categories.size())));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statements = new SqlStatementCounter(entityManagerFactory);
+    }
+
+    @Test
+    public void findAll_UsesSingleStatement() {
+        List<CourseViewDTO> sut = statements.assertStatements(1, courseService::findAll);
+
+        assertThat(sut).hasSize(12);
+        assertThat(sut).extracting(course -> course.category().name()).containsOnly("Web", "Dados", "Mobile");
+    }
+
+    @Test
+    public void findAllPageable_UsesIdViewAndCountStatements() {
+        Page<CourseViewDTO> sut = statements.assertStatements(3, () -> courseService.findAllPageable(null, new PaginateDTO(5l, 0l)));
+
+        assertThat(sut.getContent()).hasSize(5);
+        assertThat(sut.getTotalElements()).isEqualTo(12);
+    }
+
+    @Test
+    public void findAllPageable_WithFilter_UsesIdViewAndCountStatements() {
+        Page<CourseViewDTO> sut = statements.assertStatements(3, () -> courseService.findAllPageable("dados", new PaginateDTO(2l, 0l)));
+
+        assertThat(sut.getContent()).extracting(course -> course.category().name()).containsOnly("Dados");
+        assertThat(sut.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    public void findAllPageable_WithSortByName_ReturnsStableOrderAcrossPages() {
+        Page<CourseViewDTO> first = courseService.findAllPageable(null, new PaginateDTO(5l, 0l, null, "name,desc"));
+        Page<CourseViewDTO> second = courseService.findAllPageable(null, new PaginateDTO(5l, 1l, null, "name,desc"));
+
+        assertThat(first.getContent()).extracting(CourseViewDTO::name).containsExactly("Curso 9", "Curso 8", "Curso 7", "Curso 6", "Curso 5");
+        assertThat(second.getContent()).extracting(CourseViewDTO::name).containsExactly("Curso 4", "Curso 3", "Curso 2", "Curso 11", "Curso 10");
+    }
+
+    @Test
+    public void findAllPageable_WithCachedTotal_CountsOnlyOnFirstCall() {
+        statements.assertStatements(3, () -> courseService.findAllPageable("dados", new PaginateDTO(2l, 0l, TotalMode.CACHED)));
+        Page<CourseViewDTO> sut = statements.assertStatements(2, () -> courseService.findAllPageable("dados", new PaginateDTO(2l, 1l, TotalMode.CACHED)));
+
+        assertThat(sut.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    public void findAllPageable_WithRepeatedPage_ReadsIdsFromCacheAndBodiesFromCourseCache() {
+        PaginateDTO paginateDTO = new PaginateDTO(5l, 1l);
+
+        Page<CourseViewDTO> first = statements.assertStatements(3, () -> courseService.findAllPageable("curso", paginateDTO));
+        statements.assertStatements(2, () -> courseService.findAllPageable("curso", paginateDTO));
+        Page<CourseViewDTO> sut = statements.assertStatements(0, () -> courseService.findAllPageable(" Curso", paginateDTO));
+
+        assertThat(sut.getContent()).isEqualTo(first.getContent());
+        assertThat(sut.getTotalElements()).isEqualTo(12);
+    }
+
+    @Test
+    public void findAllPageable_AfterWrite_QueriesAgain() {
+        PaginateDTO paginateDTO = new PaginateDTO(5l, 0l);
+
+        courseService.findAllPageable(null, paginateDTO);
+        writeGenerations.bump(WriteGenerations.COURSES);
+
+        statements.assertStatements(3, () -> courseService.findAllPageable(null, paginateDTO));
+    }
+
+    @Test
+    public void findAllPageable_WithoutTotal_UsesIdAndViewStatements() {
+        Page<CourseViewDTO> sut = statements.assertStatements(2, () -> courseService.findAllPageable(null, new PaginateDTO(5l, 0l, TotalMode.NONE)));
+
+        assertThat(sut.getContent()).hasSize(5);
+        assertThat(sut.hasNext()).isTrue();
+    }
+
+    @Test
+    public void findAllByCursor_UsesSingleStatement() {
+        SliceDTO<CourseViewDTO> sut = statements.assertStatements(1, () -> courseService.findAllByCursor(null, null, new PaginateDTO(5l, null)));
+
+        assertThat(sut.content()).hasSize(5);
+        assertThat(sut.hasNext()).isTrue();
+    }
+}
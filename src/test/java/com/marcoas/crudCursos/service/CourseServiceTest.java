@@ -1,30 +1,53 @@
 package com.marcoas.crudCursos.service;
 
+import com.marcoas.crudCursos.cache.CachedCourse;
+import com.marcoas.crudCursos.cache.CategoryGenerations;
 import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.BatchItemDTO;
+import com.marcoas.crudCursos.dto.BatchResultDTO;
+import com.marcoas.crudCursos.dto.BatchStatus;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
 import com.marcoas.crudCursos.dto.CourseDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
+import com.marcoas.crudCursos.dto.MatchMode;
 import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.TotalMode;
 import com.marcoas.crudCursos.model.Category;
 import com.marcoas.crudCursos.model.Course;
 import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import common.InMemoryWriteGenerations;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static common.CategoryConstants.CATEGORYENTITY;
+import static common.CategoryConstants.CATEGORYVIEW;
 import static common.CourseConstants.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -35,13 +58,28 @@ public class CourseServiceTest {
     private CourseRepository courseRepository;
     @Mock
     private CategoryService categoryService;
+    @Mock
+    private SearchIndexService searchIndex;
+    @Mock
+    private BatchWriter batchWriter;
+    @Mock
+    private ErrorReporter errorReporter;
+    @Mock
+    private CategoryGenerations categoryGenerations;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+    @Spy
+    private PageTotals pageTotals = new PageTotals(null);
+    @Spy
+    private PageCache pageCache = new PageCache(new InMemoryWriteGenerations(), 0);
 
     @Test
     public void createCourse_WithValidData_ReturnsCourse() {
         when(courseRepository.save(any(Course.class))).thenReturn(COURSEENTITY);
-        when(categoryService.findById(anyLong())).thenReturn(CATEGORYENTITY);
-        Course sut = courseService.create(COURSEDTO);
-        assertThat(sut).isEqualTo(COURSEENTITY);
+        when(categoryService.findById(anyLong())).thenReturn(CATEGORYVIEW);
+        when(categoryService.getReference(1L)).thenReturn(CATEGORYENTITY);
+        CourseViewDTO sut = courseService.create(COURSEDTO);
+        assertThat(sut).isEqualTo(COURSEVIEW);
     }
 
     @Test
@@ -50,6 +88,31 @@ public class CourseServiceTest {
                 .isInstanceOf(ApiError.class);
     }
 
+    @Test
+    public void createCourseBatch_ResolvesCategoriesOnceAndRejectsInvalidRows() {
+        List<CourseDTO> dtos = List.of(COURSEDTO, INVALIDCOURSEDTO3, new CourseDTO("React", 99l), new CourseDTO("Vue", 1l));
+        when(categoryService.findAllByIds(Set.of(1l, 99l))).thenReturn(List.of(CATEGORYENTITY));
+        when(courseRepository.findNamesByNameIn(Set.of("Angular", "React", "Vue"))).thenReturn(List.of("Vue"));
+        doAnswer(invocation -> {
+            BatchItemDTO[] items = invocation.getArgument(4);
+            items[0] = BatchItemDTO.created(0, 10l);
+            return null;
+        }).when(batchWriter).insert(any(), eq(courseRepository), any(), any(), any(), any(), any());
+
+        BatchResultDTO sut = courseService.createBatch(dtos);
+
+        ArgumentCaptor<Map<Integer, Supplier<Course>>> pending = ArgumentCaptor.forClass(Map.class);
+        verify(batchWriter).insert(pending.capture(), eq(courseRepository), any(), any(), any(), any(), any());
+        assertThat(pending.getValue()).containsOnlyKeys(0);
+        Course course = pending.getValue().get(0).get();
+        assertThat(course.getName()).isEqualTo("Angular");
+        assertThat(course.getCategory()).isEqualTo(CATEGORYENTITY);
+        assertThat(sut.items().subList(1, 4)).extracting(BatchItemDTO::status)
+                .containsExactly(BatchStatus.INVALID, BatchStatus.INVALID, BatchStatus.CONFLICT);
+        assertThat(sut.items().get(2).message()).isEqualTo("Category not found.");
+        verify(categoryService, never()).findById(anyLong());
+    }
+
     @Test
     public void createCourse_WithInvalidData2_ThrowsException() {
         assertThatThrownBy(() -> courseService.create(INVALIDCOURSEDTO2))
@@ -71,15 +134,78 @@ public class CourseServiceTest {
 
     @Test
     public void findCourseById_WithValidId_ReturnsCourse() {
-        when(courseRepository.findById(anyLong())).thenReturn(Optional.of(COURSEENTITY));
-        Course sut = courseService.findById(1L);
-        assertThat(sut).isEqualTo(COURSEENTITY);
+        when(courseRepository.findCategoryIdById(1L)).thenReturn(Optional.of(1L));
+        when(categoryGenerations.current(1L)).thenReturn(3L);
+        when(courseRepository.findViewById(anyLong())).thenReturn(Optional.of(COURSEVIEW));
+        CourseViewDTO sut = courseService.findById(1L);
+        assertThat(sut).isEqualTo(COURSEVIEW);
+        assertThat(cacheManager.getCache("courses").get(1L).get()).isEqualTo(new CachedCourse(3L, COURSEVIEW));
+        verify(courseRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void findCourseById_WhenCategoryChangesDuringLoad_CachesNeverCurrentEntry() {
+        when(courseRepository.findCategoryIdById(1L)).thenReturn(Optional.of(2L));
+        when(courseRepository.findViewById(anyLong())).thenReturn(Optional.of(COURSEVIEW));
+        courseService.findById(1L);
+        assertThat(cacheManager.getCache("courses").get(1L).get()).isEqualTo(new CachedCourse(CachedCourse.NEVER_CURRENT, COURSEVIEW));
     }
 
     @Test
     public void findCourseById_WithInvalidId_ThrowsException() {
-        when(courseRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(courseRepository.findCategoryIdById(anyLong())).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> courseService.findById(1L)).isInstanceOf(ApiError.class)
+                .hasMessage("Course not found.");
+        verify(courseRepository, never()).findViewById(anyLong());
+    }
+
+    @Test
+    public void findCourseById_WithKnownMissingId_DoesNotQueryRepository() {
+        when(courseRepository.findCategoryIdById(1L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> courseService.findById(1L)).isInstanceOf(ApiError.class);
+        assertThatThrownBy(() -> courseService.findById(1L)).isInstanceOf(ApiError.class)
+                .hasMessage("Course not found.");
+        verify(courseRepository, times(1)).findCategoryIdById(1L);
+    }
+
+    @Test
+    public void createCourse_EvictsMissingEntryForNewId() {
+        cacheManager.getCache("courses-missing").put(COURSEENTITY.getId(), Boolean.TRUE);
+        when(courseRepository.save(any(Course.class))).thenReturn(COURSEENTITY);
+        when(categoryService.findById(anyLong())).thenReturn(CATEGORYVIEW);
+        courseService.create(COURSEDTO);
+        assertThat(cacheManager.getCache("courses-missing").get(COURSEENTITY.getId())).isNull();
+    }
+
+    @Test
+    public void createCourse_InTransaction_EvictsMissingEntryAfterCommit() {
+        cacheManager.getCache("courses-missing").put(COURSEENTITY.getId(), Boolean.TRUE);
+        when(courseRepository.save(any(Course.class))).thenReturn(COURSEENTITY);
+        when(categoryService.findById(anyLong())).thenReturn(CATEGORYVIEW);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            courseService.create(COURSEDTO);
+            assertThat(cacheManager.getCache("courses-missing").get(COURSEENTITY.getId())).isNotNull();
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cacheManager.getCache("courses-missing").get(COURSEENTITY.getId())).isNull();
+    }
+
+    @Test
+    public void findCoursesByIds_LoadsOnlyMissesAndKeepsRequestOrder() {
+        CourseViewDTO react = new CourseViewDTO(3L, "React", CATEGORYVIEW);
+        cacheManager.getCache("courses").put(2L, new CachedCourse(0L, new CourseViewDTO(2L, "Vue", CATEGORYVIEW)));
+        when(courseRepository.findCategoryIdsByIdIn(List.of(3L, 1L, 4L))).thenReturn(List.<Object[]>of(new Object[]{3L, 1L}, new Object[]{1L, 1L}));
+        when(categoryGenerations.current(1L)).thenReturn(7L);
+        when(courseRepository.findViewsByIdIn(List.of(3L, 1L, 4L))).thenReturn(List.of(COURSEVIEW, react));
+
+        List<CourseViewDTO> sut = courseService.findByIds(List.of(3L, 2L, 1L, 3L, 4L));
+
+        assertThat(sut).extracting(CourseViewDTO::id).containsExactly(3L, 2L, 1L);
+        assertThat(cacheManager.getCache("courses").get(3L).get()).isEqualTo(new CachedCourse(7L, react));
+        verify(courseRepository, never()).findViewById(anyLong());
     }
 
     @Test
@@ -89,36 +215,116 @@ public class CourseServiceTest {
 
         PaginateDTO paginateDTO = new PaginateDTO(size, page);
 
-        List<Course> course = List.of(
-                COURSEENTITY,
-                COURSEENTITY,
-                COURSEENTITY);
-        Page<Course> result = new PageImpl<>(course);
-        when(courseRepository.findByNameContainsOrCategory_NameContains(any(),any(Pageable.class))).thenReturn(result);
+        List<CourseViewDTO> course = List.of(
+                new CourseViewDTO(2l, "React", CATEGORYVIEW),
+                new CourseViewDTO(1l, "Angular", CATEGORYVIEW),
+                new CourseViewDTO(3l, "Vue", CATEGORYVIEW));
+        when(courseRepository.findIdsByNameContainsOrCategory_NameContains(any(),any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(1l, 2l, 3l)));
+        when(courseRepository.findViewsByIdIn(List.of(1l, 2l, 3l))).thenReturn(course);
 
-        Page<Course> sut = courseService.findAllPageable(null, paginateDTO);
+        Page<CourseViewDTO> sut = courseService.findAllPageable(null, paginateDTO);
 
         assertThat(sut).isNotNull();
         assertThat(Long.valueOf(sut.getNumber())).isEqualTo(page);
         assertThat(Long.valueOf(sut.getContent().size())).isLessThanOrEqualTo(size);
+        assertThat(sut.getContent()).extracting(CourseViewDTO::id).containsExactly(1l, 2l, 3l);
+    }
+
+    @Test
+    public void findCourseByPageable_WithSort_TranslatesKeysAndAppendsIdTieBreaker() {
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(courseRepository.findIdsByNameContainsOrCategory_NameContains(any(), pageable.capture()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        courseService.findAllPageable("web", new PaginateDTO(10l, 0l, null, "Category,desc|name"));
+
+        assertThat(pageable.getValue().getSort()).containsExactly(Sort.Order.desc("category.id"), Sort.Order.asc("normalizedName"), Sort.Order.asc("id"));
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    public void findCourseByPageable_WithUnknownSort_ThrowsException() {
+        assertThatThrownBy(() -> courseService.findAllPageable(null, new PaginateDTO(10l, 0l, null, "CouName,asc")))
+                .isInstanceOf(ApiError.class).hasMessage("Invalid sort.");
+        assertThatThrownBy(() -> courseService.findAllPageable(null, new PaginateDTO(10l, 0l, null, "name,up")))
+                .isInstanceOf(ApiError.class).hasMessage("Invalid sort.");
+        verifyNoInteractions(courseRepository, errorReporter);
     }
 
     @Test
     public void findCourseByPageable_WithInvalidPaginate_ThrowsException() {
         PaginateDTO paginateDTO = new PaginateDTO(10L, 0L);
-        when(courseRepository.findByNameContainsOrCategory_NameContains(any(),any(Pageable.class))).thenThrow(RuntimeException.class);
+        when(courseRepository.findIdsByNameContainsOrCategory_NameContains(any(),any(Pageable.class))).thenThrow(RuntimeException.class);
         assertThatThrownBy(() -> courseService.findAllPageable(null, paginateDTO)).isInstanceOf(ApiError.class);
     }
 
+    @Test
+    public void findCourseByPageable_WithCachedTotal_CountsOncePerFilterUntilWrite() {
+        when(courseRepository.findIdsByNameContainsOrCategory_NameContains(any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(COURSEVIEW.id()), PageRequest.of(0, 1), true));
+        when(courseRepository.findViewsByIdIn(List.of(COURSEVIEW.id()))).thenReturn(List.of(COURSEVIEW));
+        when(courseRepository.countByNameContainsOrCategory_NameContains(any())).thenReturn(7l);
+        when(courseRepository.save(any(Course.class))).thenReturn(COURSEENTITY);
+        when(categoryService.findById(anyLong())).thenReturn(CATEGORYVIEW);
+
+        courseService.findAllPageable(" ÂNG ", new PaginateDTO(1l, 0l, TotalMode.CACHED));
+        Page<CourseViewDTO> sut = courseService.findAllPageable("ang", new PaginateDTO(1l, 0l, TotalMode.CACHED));
+        courseService.create(COURSEDTO);
+        courseService.findAllPageable("ang", new PaginateDTO(1l, 0l, TotalMode.CACHED));
+
+        assertThat(sut.getTotalElements()).isEqualTo(7);
+        verify(courseRepository, times(2)).countByNameContainsOrCategory_NameContains("%ang%");
+    }
+
+    @Test
+    public void findCourseByPageable_WithoutTotal_DoesNotCount() {
+        when(courseRepository.findIdsByNameContainsOrCategory_NameContains(any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(7l, 8l), PageRequest.of(3, 2), true));
+        when(courseRepository.findViewsByIdIn(List.of(7l, 8l))).thenReturn(List.of(new CourseViewDTO(7l, "Angular", CATEGORYVIEW), new CourseViewDTO(8l, "React", CATEGORYVIEW)));
+
+        Page<CourseViewDTO> sut = courseService.findAllPageable(null, new PaginateDTO(2l, 3l, TotalMode.NONE));
+
+        assertThat(sut.hasNext()).isTrue();
+        assertThat(sut.getTotalElements()).isEqualTo(9);
+        verify(courseRepository, never()).countByNameContainsOrCategory_NameContains(any());
+    }
+
+    @Test
+    public void findCourseByPageable_WithIndexedFilter_LoadsOnlyPageIds() {
+        List<CourseViewDTO> courses = List.of(
+                new CourseViewDTO(5l, "Angular", CATEGORYVIEW),
+                new CourseViewDTO(3l, "Angular Avançado", CATEGORYVIEW));
+        when(searchIndex.findCourseIds("angular")).thenReturn(new long[]{3l, 5l, 8l});
+        when(searchIndex.loadPage(any(), any(Pageable.class), any(), any())).thenCallRealMethod();
+        when(courseRepository.findViewsByIdIn(List.of(3l, 5l))).thenReturn(courses);
+
+        Page<CourseViewDTO> sut = courseService.findAllPageable("angular", new PaginateDTO(2l, 0l));
+
+        assertThat(sut.getTotalElements()).isEqualTo(3);
+        assertThat(sut.getContent()).extracting(CourseViewDTO::id).containsExactly(3l, 5l);
+        verify(courseRepository, never()).findIdsByNameContainsOrCategory_NameContains(any(), any(Pageable.class));
+    }
+
+    @Test
+    public void findCourseByPageable_WithPrefixMatch_QueriesFoldedPrefixWithoutSearchIndex() {
+        when(courseRepository.findIdsByNameContainsOrCategory_NameContains(any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        courseService.findAllPageable(" Ângular  Avançado", new PaginateDTO(10l, 0l, null, null, MatchMode.PREFIX));
+
+        verify(courseRepository).findIdsByNameContainsOrCategory_NameContains(eq("angular avancado%"), any(Pageable.class));
+        verifyNoInteractions(searchIndex);
+    }
+
     @Test
     public void findAllCourse_ReturnsList() {
-        List<Course> courses = List.of(
-                COURSEENTITY,
-                COURSEENTITY,
-                COURSEENTITY);
-        when(courseRepository.findAll()).thenReturn(courses);
+        List<CourseViewDTO> courses = List.of(
+                COURSEVIEW,
+                COURSEVIEW,
+                COURSEVIEW);
+        when(courseRepository.findAllViews()).thenReturn(courses);
 
-        List<Course> sut = courseService.findAll();
+        List<CourseViewDTO> sut = courseService.findAll();
 
         assertThat(sut).isEqualTo(courses);
     }
@@ -126,17 +332,17 @@ public class CourseServiceTest {
     @Test
     public void findAllCourse_ReturnsListEmpty() {
 
-        List<Course> courses = List.of();
-        when(courseRepository.findAll()).thenReturn(courses);
+        List<CourseViewDTO> courses = List.of();
+        when(courseRepository.findAllViews()).thenReturn(courses);
 
-        List<Course> sut = courseService.findAll();
+        List<CourseViewDTO> sut = courseService.findAll();
 
         assertThat(sut).isEqualTo(courses);
     }
 
     @Test
     public void findAllCourse_ThrowsException() {
-        when(courseRepository.findAll()).thenThrow(RuntimeException.class);
+        when(courseRepository.findAllViews()).thenThrow(RuntimeException.class);
         assertThatThrownBy(() -> courseService.findAll()).isInstanceOf(ApiError.class);
     }
 
@@ -149,15 +355,19 @@ public class CourseServiceTest {
         Course existingCourse = new Course(courseId, "Angular", existingCategory);
 
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(existingCourse));
-        when(categoryService.findById(2L)).thenReturn(newCategory);
+        when(categoryGenerations.current(2L)).thenReturn(5L);
+        when(categoryService.findById(2L)).thenReturn(CategoryViewDTO.of(newCategory));
+        when(categoryService.getReference(2L)).thenReturn(newCategory);
         when(courseRepository.save(any(Course.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 
-        Course updatedCourse = courseService.update(1L, dto);
+        CourseViewDTO updatedCourse = courseService.update(1L, dto);
 
         assertThat(updatedCourse).isNotNull();
-        assertThat(updatedCourse.getCategory()).isEqualTo(newCategory);
-        assertThat(updatedCourse.getName()).isEqualTo(dto.name());
+        assertThat(updatedCourse.category()).isEqualTo(CategoryViewDTO.of(newCategory));
+        assertThat(updatedCourse.name()).isEqualTo(dto.name());
+        assertThat(existingCourse.getCategory()).isSameAs(newCategory);
+        assertThat(cacheManager.getCache("courses").get(1L).get()).isEqualTo(new CachedCourse(5L, updatedCourse));
     }
 
     @Test
@@ -0,0 +1,47 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorReporterTest {
+    private final ErrorReporter errorReporter = new ErrorReporter(2, Duration.ofMinutes(1), 10);
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        errorReporter.shutdown();
+    }
+
+    @Test
+    public void apiError_HasNoStackTrace() {
+        ApiError sut = new ApiError("Course not found.", HttpStatusCode.valueOf(404));
+        assertThat(sut.getStackTrace()).isEmpty();
+        assertThat(sut.getStatusCode().value()).isEqualTo(404);
+        assertThat(sut.getMessage()).isEqualTo("Course not found.");
+    }
+
+    @Test
+    public void report_WithApiError_OnlyCountsExpectedError() {
+        errorReporter.report("Error searching course.", new ApiError("Course not found.", HttpStatusCode.valueOf(404)));
+        assertThat(errorReporter.getExpected()).isEqualTo(1);
+        assertThat(errorReporter.getCounts()).isEmpty();
+    }
+
+    @Test
+    public void report_WithUnexpectedErrors_CountsEveryErrorPerType() {
+        for (int i = 0; i < 5; i++) {
+            errorReporter.report("Error searching course.", new IllegalStateException("boom " + i));
+        }
+        errorReporter.report("Error searching course.", new NullPointerException());
+
+        assertThat(errorReporter.getCounts())
+                .containsEntry(IllegalStateException.class.getName(), 5L)
+                .containsEntry(NullPointerException.class.getName(), 1L);
+        assertThat(errorReporter.getExpected()).isZero();
+    }
+}
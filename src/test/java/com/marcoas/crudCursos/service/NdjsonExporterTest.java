@@ -0,0 +1,100 @@
+package com.marcoas.crudCursos.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "app.export.flush-interval=100")
+@ActiveProfiles("test")
+@Import(NdjsonExporter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class NdjsonExporterTest {
+    private static final int COURSES = 1000;
+
+    @Autowired
+    private NdjsonExporter exporter;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository.deleteAll();
+        categoryRepository.deleteAll();
+        List<Category> categories = categoryRepository.saveAll(List.of(new Category(null, "Web"), new Category(null, "Dados")));
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            courses.add(new Course(null, "Curso " + i, categories.get(i % 2)));
+        }
+        courseRepository.saveAll(courses);
+    }
+
+    @Test
+    public void export_WritesOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exporter.export(courseRepository::streamAll, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(COURSES);
+        assertThat(lines).hasSize(COURSES);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("name").asText()).startsWith("Curso ");
+        assertThat(first.get("category").get("name").asText()).isIn("Web", "Dados");
+    }
+
+    @Test
+    public void export_WithProjections_KeepsPersistenceContextEmpty() {
+        AtomicInteger maxManaged = new AtomicInteger();
+
+        exporter.export(() -> courseRepository.streamAll().peek(course -> maxManaged.accumulateAndGet(
+                entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities(), Math::max)),
+                new ByteArrayOutputStream());
+
+        assertThat(maxManaged.get()).isZero();
+    }
+
+    @Test
+    public void export_FlushesOutputEveryInterval() {
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        exporter.export(courseRepository::streamAll, output);
+
+        assertThat(flushes.get()).isGreaterThanOrEqualTo(COURSES / 100);
+    }
+}
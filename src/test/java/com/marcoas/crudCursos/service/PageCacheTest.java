@@ -0,0 +1,116 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.cache.WriteGenerations;
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import common.InMemoryWriteGenerations;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageCacheTest {
+    private final InMemoryWriteGenerations generations = new InMemoryWriteGenerations();
+    private final PageCache pageCache = new PageCache(generations, 100);
+    private final Cache pages = new ConcurrentMapCache("pages");
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger hydrations = new AtomicInteger();
+
+    private final Function<List<Long>, List<Long>> hydrate = ids -> {
+        hydrations.incrementAndGet();
+        return ids;
+    };
+
+    private Supplier<Page<Long>> loader(PaginateDTO paginateDTO, List<Long> content, long total) {
+        return () -> {
+            loads.incrementAndGet();
+            Pageable pageable = paginateDTO.buildPageable();
+            return new PageImpl<>(content, pageable, total);
+        };
+    }
+
+    private Page<Long> get(String pattern, PaginateDTO paginateDTO, List<Long> content) {
+        String version = pageCache.version(WriteGenerations.COURSES, WriteGenerations.CATEGORIES);
+        return pageCache.get(pages, version, pattern, paginateDTO, hydrate, Function.identity(), loader(paginateDTO, content, 42));
+    }
+
+    @Test
+    public void get_WithRepeatedPage_LoadsOnceAndHydratesFromIds() {
+        PaginateDTO paginateDTO = new PaginateDTO(3l, 1l);
+
+        get("%web%", paginateDTO, List.of(4l, 5l, 6l));
+        Page<Long> sut = get("%web%", paginateDTO, List.of(4l, 5l, 6l));
+
+        assertThat(sut.getContent()).containsExactly(4l, 5l, 6l);
+        assertThat(sut.getTotalElements()).isEqualTo(42);
+        assertThat(sut.getNumber()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+        assertThat(hydrations).hasValue(1);
+    }
+
+    @Test
+    public void get_AfterWrite_LoadsAgain() {
+        PaginateDTO paginateDTO = new PaginateDTO(3l, 0l);
+
+        get(null, paginateDTO, List.of(1l, 2l, 3l));
+        pageCache.written(WriteGenerations.CATEGORIES);
+        get(null, paginateDTO, List.of(1l, 2l, 3l));
+
+        assertThat(loads).hasValue(2);
+        assertThat(hydrations).hasValue(0);
+    }
+
+    @Test
+    public void get_WithDifferentPageOrFilter_UsesSeparateEntries() {
+        get(null, new PaginateDTO(3l, 0l), List.of(1l));
+        get(null, new PaginateDTO(3l, 1l), List.of(1l));
+        get(null, new PaginateDTO(2l, 0l), List.of(1l));
+        get("%web%", new PaginateDTO(3l, 0l), List.of(1l));
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    public void get_WithEmptyPage_DoesNotHydrate() {
+        PaginateDTO paginateDTO = new PaginateDTO(3l, 9l);
+
+        get(null, paginateDTO, List.of());
+        Page<Long> sut = get(null, paginateDTO, List.of());
+
+        assertThat(sut.getContent()).isEmpty();
+        assertThat(loads).hasValue(1);
+        assertThat(hydrations).hasValue(0);
+    }
+
+    @Test
+    public void get_WhenHydratedItemWasDeleted_LoadsAgain() {
+        PaginateDTO paginateDTO = new PaginateDTO(3l, 0l);
+        String version = pageCache.version(WriteGenerations.COURSES);
+
+        pageCache.get(pages, version, null, paginateDTO, hydrate, Function.identity(), loader(paginateDTO, List.of(1l, 2l), 2));
+        Page<Long> sut = pageCache.get(pages, version, null, paginateDTO, ids -> ids.subList(1, ids.size()), Function.identity(),
+                loader(paginateDTO, List.of(2l), 1));
+
+        assertThat(sut.getContent()).containsExactly(2l);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void get_AboveMaxPageSize_IsNotCached() {
+        PaginateDTO paginateDTO = new PaginateDTO(101l, 0l);
+
+        get(null, paginateDTO, List.of(1l));
+        get(null, paginateDTO, List.of(1l));
+
+        assertThat(loads).hasValue(2);
+        assertThat(((ConcurrentMapCache) pages).getNativeCache()).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package com.marcoas.crudCursos.service;
+
+import com.marcoas.crudCursos.dto.PaginateDTO;
+import com.marcoas.crudCursos.dto.TotalMode;
+import com.marcoas.crudCursos.repository.TableStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PageTotalsTest {
+    @InjectMocks
+    private PageTotals pageTotals;
+    @Mock
+    private TableStatistics tableStatistics;
+
+    private final Cache totals = new ConcurrentMapCache("totals");
+    private final AtomicInteger counts = new AtomicInteger();
+    private final LongSupplier count = () -> {
+        counts.incrementAndGet();
+        return 42;
+    };
+
+    @Test
+    public void page_OnLastPage_ComputesTotalWithoutCounting() {
+        Page<String> sut = pageTotals.page(totals, "0", "Course", null, new PaginateDTO(10l, 2l),
+                pageable -> new SliceImpl<>(List.of("a", "b"), pageable, false), count);
+
+        assertThat(sut.getTotalElements()).isEqualTo(22);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    public void page_WithExactTotal_CountsEveryTime() {
+        for (int i = 0; i < 2; i++) {
+            Page<String> sut = pageTotals.page(totals, "0", "Course", "%web%", new PaginateDTO(1l, 0l, TotalMode.EXACT),
+                    pageable -> new SliceImpl<>(List.of("a"), pageable, true), count);
+            assertThat(sut.getTotalElements()).isEqualTo(42);
+        }
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void page_WithCachedTotal_CountsOncePerGeneration() {
+        PaginateDTO paginateDTO = new PaginateDTO(1l, 0l, TotalMode.CACHED);
+
+        pageTotals.page(totals, "0", "Course", "%web%", paginateDTO, pageable -> new SliceImpl<>(List.of("a"), pageable, true), count);
+        Page<String> sut = pageTotals.page(totals, "0", "Course", "%web%", paginateDTO, pageable -> new SliceImpl<>(List.of("a"), pageable, true), count);
+        pageTotals.page(totals, "1", "Course", "%web%", paginateDTO, pageable -> new SliceImpl<>(List.of("a"), pageable, true), count);
+
+        assertThat(sut.getTotalElements()).isEqualTo(42);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void page_WithEstimatedTotal_UsesTableStatisticsOnlyWithoutFilter() {
+        when(tableStatistics.estimateRows("Course")).thenReturn(1000l);
+        PaginateDTO paginateDTO = new PaginateDTO(1l, 0l, TotalMode.ESTIMATED);
+
+        Page<String> unfiltered = pageTotals.page(totals, "0", "Course", null, paginateDTO, pageable -> new SliceImpl<>(List.of("a"), pageable, true), count);
+        Page<String> filtered = pageTotals.page(totals, "0", "Course", "%web%", paginateDTO, pageable -> new SliceImpl<>(List.of("a"), pageable, true), count);
+
+        assertThat(unfiltered.getTotalElements()).isEqualTo(1000);
+        assertThat(filtered.getTotalElements()).isEqualTo(42);
+        assertThat(counts).hasValue(1);
+        verify(tableStatistics, times(1)).estimateRows("Course");
+    }
+
+    @Test
+    public void page_WithEstimateBelowCurrentPage_ReportsNextPage() {
+        when(tableStatistics.estimateRows("Course")).thenReturn(3l);
+
+        Page<String> sut = pageTotals.page(totals, "0", "Course", null, new PaginateDTO(2l, 4l, TotalMode.ESTIMATED),
+                pageable -> new SliceImpl<>(List.of("a", "b"), pageable, true), count);
+
+        assertThat(sut.hasNext()).isTrue();
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    public void page_WithoutTotal_OnlyReportsWhetherThereIsANextPage() {
+        Page<String> sut = pageTotals.page(totals, "0", "Course", null, new PaginateDTO(2l, 1l, TotalMode.NONE),
+                pageable -> new SliceImpl<>(List.of("a", "b"), pageable, true), count);
+
+        assertThat(sut.hasNext()).isTrue();
+        assertThat(sut.getTotalElements()).isEqualTo(5);
+        assertThat(counts).hasValue(0);
+    }
+}
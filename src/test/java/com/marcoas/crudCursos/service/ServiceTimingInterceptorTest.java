@@ -0,0 +1,64 @@
+package com.marcoas.crudCursos.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ServiceTimingInterceptorTest {
+    private SimpleMeterRegistry registry;
+    private List<String> sut;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        ProxyFactory proxyFactory = new ProxyFactory(new ArrayList<String>());
+        proxyFactory.addAdvice(new ServiceTimingInterceptor(() -> registry));
+        sut = (List<String>) proxyFactory.getProxy();
+    }
+
+    @Test
+    public void invoke_WithSuccessfulCalls_RecordsOneTimerPerMethod() {
+        sut.add("Web");
+        sut.add("Mobile");
+        sut.size();
+
+        assertThat(timer("add", "none").count()).isEqualTo(2);
+        assertThat(timer("size", "none").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void invoke_WithException_RecordsExceptionTagAndRethrows() {
+        assertThatThrownBy(() -> sut.get(5)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(timer("get", "IndexOutOfBoundsException").count()).isEqualTo(1);
+        assertThat(registry.find(ServiceTimingInterceptor.METRIC_NAME).tag("method", "get").tag("exception", "none").timer()).isNull();
+    }
+
+    @Test
+    public void invoke_WithRepeatedExceptions_ReusesTimerPerExceptionType() {
+        assertThatThrownBy(() -> sut.get(5)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sut.get(6)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sut.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sut.addAll(5, List.of("Web"))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sut.addAll(0, null)).isInstanceOf(NullPointerException.class);
+
+        assertThat(timer("get", "IndexOutOfBoundsException").count()).isEqualTo(3);
+        assertThat(timer("addAll", "IndexOutOfBoundsException").count()).isEqualTo(1);
+        assertThat(timer("addAll", "NullPointerException").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method, String exception) {
+        return registry.get(ServiceTimingInterceptor.METRIC_NAME)
+                .tags("class", "ArrayList", "method", method, "exception", exception)
+                .timer();
+    }
+}
@@ -0,0 +1,99 @@
+package com.marcoas.crudCursos.service.events;
+
+import com.marcoas.crudCursos.cache.CategoryGenerations;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {"app.events.category.coalesce-window=20ms", "app.events.category.retry-delay=50ms"})
+@ActiveProfiles("test")
+@Import({CategoryUpdateDispatcher.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryUpdateDispatcherTest {
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private SimpleMeterRegistry registry;
+    @MockBean
+    private CategoryGenerations categoryGenerations;
+    @MockBean
+    private ErrorReporter errorReporter;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void onCategoryUpdated_WithBurstInCommittedTransaction_BumpsOnceAfterCommit() throws InterruptedException {
+        double coalesced = registry.get("crudcursos.events.category.coalesced").counter().count();
+        long lagged = registry.get("crudcursos.events.category.lag").timer().count();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(1L));
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(2L));
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(1L));
+            verify(categoryGenerations, after(100).never()).bumpAll(anyCollection());
+        });
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(categoryGenerations, timeout(2000)).bumpAll(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(categoryGenerations, never()).bump(any());
+        assertThat(registry.get("crudcursos.events.category.coalesced").counter().count()).isEqualTo(coalesced + 1);
+        assertThat(awaitLag(lagged + 2)).isEqualTo(lagged + 2);
+        assertThat(registry.get("crudcursos.events.category.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    public void onCategoryUpdated_WithRolledBackTransaction_DoesNotBump() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(1L));
+            status.setRollbackOnly();
+        });
+
+        verify(categoryGenerations, after(200).never()).bumpAll(anyCollection());
+    }
+
+    @Test
+    public void onCategoryUpdated_WhenRedisFails_ReportsAndRetriesPendingCategories() throws InterruptedException {
+        long lagged = registry.get("crudcursos.events.category.lag").timer().count();
+        doThrow(new IllegalStateException("redis down")).doNothing().when(categoryGenerations).bumpAll(anyCollection());
+
+        eventPublisher.publishEvent(new CategoryUpdatedEvent(3L));
+
+        verify(categoryGenerations, timeout(2000).times(2)).bumpAll(anyCollection());
+        verify(errorReporter).report(eq("Error invalidating courses of updated categories."), any(IllegalStateException.class));
+        assertThat(awaitLag(lagged + 1)).isEqualTo(lagged + 1);
+    }
+
+    private long awaitLag(long expected) throws InterruptedException {
+        long count = registry.get("crudcursos.events.category.lag").timer().count();
+        for (int i = 0; i < 100 && count < expected; i++) {
+            Thread.sleep(20);
+            count = registry.get("crudcursos.events.category.lag").timer().count();
+        }
+        return count;
+    }
+}
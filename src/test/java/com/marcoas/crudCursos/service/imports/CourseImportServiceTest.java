@@ -0,0 +1,146 @@
+package com.marcoas.crudCursos.service.imports;
+
+import com.marcoas.crudCursos.controller.exception.ApiError;
+import com.marcoas.crudCursos.dto.ImportErrorDTO;
+import com.marcoas.crudCursos.dto.ImportJobDTO;
+import com.marcoas.crudCursos.dto.ImportStatus;
+import com.marcoas.crudCursos.model.Category;
+import com.marcoas.crudCursos.model.Course;
+import com.marcoas.crudCursos.repository.CategoryRepository;
+import com.marcoas.crudCursos.repository.CourseRepository;
+import com.marcoas.crudCursos.search.SearchIndexService;
+import com.marcoas.crudCursos.service.BatchWriter;
+import com.marcoas.crudCursos.service.ErrorReporter;
+import com.marcoas.crudCursos.service.PageCache;
+import common.InMemoryCacheInvalidationBus;
+import common.InMemoryWriteGenerations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {"app.import.chunk-size=2", "app.import.window=2", "app.import.validation-threads=2"})
+@ActiveProfiles("test")
+@Import({CourseImportService.class, BatchWriter.class, ErrorReporter.class, SearchIndexService.class, PageCache.class, InMemoryWriteGenerations.class, InMemoryCacheInvalidationBus.class, ConcurrentMapCacheManager.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CourseImportServiceTest {
+    @Autowired
+    private CourseImportService importService;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository.deleteAll();
+        categoryRepository.deleteAll();
+        Category web = categoryRepository.save(new Category(null, "Web"));
+        categoryRepository.save(new Category(null, "Dados"));
+        courseRepository.save(new Course(null, "Angular", web));
+    }
+
+    @Test
+    public void start_WithMixedLines_ImportsValidRowsAndReportsErrorsByLine() throws Exception {
+        String csv = String.join("\n",
+                "name,category",
+                "React,Web",
+                "\"SQL, Avançado\",Dados",
+                " ,Web",
+                "Kotlin,Mobile",
+                "Angular,Web",
+                "",
+                "Vue",
+                "Spring Boot,Web",
+                "React,Dados");
+
+        ImportJobDTO job = awaitCompletion(importService.start(file(csv)).id());
+
+        assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.linesRead()).isEqualTo(8);
+        assertThat(job.imported()).isEqualTo(3);
+        assertThat(job.rejected()).isEqualTo(5);
+        assertThat(job.progress()).isEqualTo(1.0);
+        assertThat(job.errors()).extracting(ImportErrorDTO::line).containsExactly(4l, 5l, 6l, 8l, 10l);
+        assertThat(job.errors()).extracting(ImportErrorDTO::message).containsExactly(
+                "O nome do curso deve ser válido.", "Category not found.", "Course name already exists.",
+                "Invalid number of columns.", "Course name already exists.");
+        assertThat(courseRepository.findAll()).extracting(Course::getName)
+                .containsExactlyInAnyOrder("Angular", "React", "SQL, Avançado", "Spring Boot");
+    }
+
+    @Test
+    public void start_EvictsMissingEntriesForImportedIds() throws Exception {
+        Cache missing = cacheManager.getCache("courses-missing");
+        long lastId = courseRepository.findAll().get(0).getId();
+        for (long id = lastId + 1; id <= lastId + 20; id++) {
+            missing.put(id, Boolean.TRUE);
+        }
+
+        ImportJobDTO job = awaitCompletion(importService.start(file("name,category\nReact,Web\nVue,Web\nSpark,Dados")).id());
+
+        assertThat(job.imported()).isEqualTo(3);
+        assertThat(courseRepository.findAll()).filteredOn(course -> !course.getName().equals("Angular"))
+                .allSatisfy(course -> assertThat(missing.get(course.getId())).isNull());
+    }
+
+    @Test
+    public void start_WithUnterminatedQuotes_ReportsEachLine() throws Exception {
+        String csv = String.join("\n",
+                "name,category",
+                "\"Java",
+                "Avançado\",Web",
+                "Kotlin,Web",
+                "\"Go,Web");
+
+        ImportJobDTO job = awaitCompletion(importService.start(file(csv)).id());
+
+        assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.imported()).isEqualTo(1);
+        assertThat(job.errors()).extracting(ImportErrorDTO::line).containsExactly(2l, 3l, 5l);
+        assertThat(job.errors()).extracting(ImportErrorDTO::message).containsOnly("Unterminated quoted field.");
+        assertThat(courseRepository.findAll()).extracting(Course::getName).containsExactlyInAnyOrder("Angular", "Kotlin");
+    }
+
+    @Test
+    public void start_WithInvalidHeader_ThrowsException() {
+        assertThatThrownBy(() -> importService.start(file("curso;categoria\nReact;Web"))).isInstanceOf(ApiError.class);
+        assertThatThrownBy(() -> importService.start(file("\"name,category\nReact,Web"))).isInstanceOf(ApiError.class);
+    }
+
+    @Test
+    public void findJob_WithUnknownId_ThrowsException() {
+        assertThatThrownBy(() -> importService.findJob("unknown")).isInstanceOf(ApiError.class);
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "courses.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ImportJobDTO awaitCompletion(String id) throws InterruptedException {
+        ImportJobDTO job = importService.findJob(id);
+        for (int i = 0; i < 100 && job.status() == ImportStatus.RUNNING; i++) {
+            Thread.sleep(100);
+            job = importService.findJob(id);
+        }
+        return job;
+    }
+}
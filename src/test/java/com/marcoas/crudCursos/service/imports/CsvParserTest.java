@@ -0,0 +1,28 @@
+package com.marcoas.crudCursos.service.imports;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvParserTest {
+
+    @Test
+    public void parseLine_WithPlainFields_SplitsOnComma() {
+        assertThat(CsvParser.parseLine("Angular,Web")).containsExactly("Angular", "Web");
+        assertThat(CsvParser.parseLine("Angular,")).containsExactly("Angular", "");
+    }
+
+    @Test
+    public void parseLine_WithQuotedFields_KeepsCommasAndEscapedQuotes() {
+        assertThat(CsvParser.parseLine("\"Java, Avançado\",\"Dados \"\"SQL\"\"\""))
+                .containsExactly("Java, Avançado", "Dados \"SQL\"");
+    }
+
+    @Test
+    public void parseLine_WithUnterminatedQuote_ThrowsException() {
+        assertThatThrownBy(() -> CsvParser.parseLine("\"Java, Avançado,Web"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field.");
+    }
+}
@@ -1,6 +1,7 @@
 package common;
 
 import com.marcoas.crudCursos.dto.CategoryDTO;
+import com.marcoas.crudCursos.dto.CategoryViewDTO;
 import com.marcoas.crudCursos.model.Category;
 
 public class CategoryConstants {
@@ -10,5 +11,6 @@ public class CategoryConstants {
     public static final CategoryDTO INVALIDCATEGORYDTO3 = new CategoryDTO("    ");
     public static final Category CATEGORYENTITY = new Category(1l,"Tecnologia da Informação");
     public static final Category CATEGORYENTITYTOSAVE = new Category(null,"Tecnologia da Informação");
+    public static final CategoryViewDTO CATEGORYVIEW = new CategoryViewDTO(1l,"Tecnologia da Informação");
 
 }
@@ -1,6 +1,7 @@
 package common;
 
 import com.marcoas.crudCursos.dto.CourseDTO;
+import com.marcoas.crudCursos.dto.CourseViewDTO;
 import com.marcoas.crudCursos.model.Course;
 public class CourseConstants {
     public static final CourseDTO COURSEDTO = new CourseDTO("Angular", 1l);
@@ -10,5 +11,6 @@ public class CourseConstants {
 
     public static final Course COURSEENTITY = new Course(1l,"Angular", CategoryConstants.CATEGORYENTITY);
     public static final Course COURSEENTITYTOSAVE = new Course(null,"Angular", CategoryConstants.CATEGORYENTITY);
+    public static final CourseViewDTO COURSEVIEW = new CourseViewDTO(1l,"Angular", CategoryConstants.CATEGORYVIEW);
 
 }
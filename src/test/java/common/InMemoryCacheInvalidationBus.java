@@ -0,0 +1,22 @@
+package common;
+
+import com.marcoas.crudCursos.cache.CacheInvalidation;
+import com.marcoas.crudCursos.cache.CacheInvalidationBus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
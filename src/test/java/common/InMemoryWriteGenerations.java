@@ -0,0 +1,20 @@
+package common;
+
+import com.marcoas.crudCursos.cache.WriteGenerations;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryWriteGenerations implements WriteGenerations {
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(String entity) {
+        return generations.getOrDefault(entity, 0L);
+    }
+
+    @Override
+    public void bump(String entity) {
+        generations.merge(entity, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,19 @@
+package common;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+
+public class ReactiveSchema {
+    private static final List<String> STATEMENTS = List.of(
+            "drop table if exists Course",
+            "drop table if exists Category",
+            "create table Category (CatId bigint primary key, CatName varchar(255) not null unique, CatNormalizedName varchar(255))",
+            "create table Course (CouId bigint primary key, CouName varchar(255) not null unique, CouNormalizedName varchar(255), CouCategoryId bigint not null references Category(CatId))",
+            "insert into Category (CatId, CatName, CatNormalizedName) values (1, 'Web', 'web'), (2, 'Dados', 'dados')",
+            "insert into Course (CouId, CouName, CouNormalizedName, CouCategoryId) values (1, 'Angular', 'angular', 1), (2, 'React', 'react', 1), (3, 'Python', 'python', 2), (4, 'Spark', 'spark', 2)");
+
+    public static void create(DatabaseClient client) {
+        STATEMENTS.forEach(statement -> client.sql(statement).then().block());
+    }
+}
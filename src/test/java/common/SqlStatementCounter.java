@@ -0,0 +1,25 @@
+package common;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatementCounter {
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public <T> T assertStatements(long expected, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        assertThat(statistics.getPrepareStatementCount()).as("SQL statements").isEqualTo(expected);
+        return result;
+    }
+}